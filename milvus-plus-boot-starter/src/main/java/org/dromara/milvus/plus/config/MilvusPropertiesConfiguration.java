@@ -1,6 +1,12 @@
 package org.dromara.milvus.plus.config;
 
 import lombok.Data;
+import org.dromara.milvus.plus.cache.CaffeineResultCache;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.cache.ServerCapabilityCache;
+import org.dromara.milvus.plus.converter.DefaultConversionExecutor;
+import org.dromara.milvus.plus.core.conditions.SearchMicroBatcher;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
 import org.dromara.milvus.plus.model.SchemaMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -32,4 +38,68 @@ public class MilvusPropertiesConfiguration {
      * 是否允许 RECREATE 删表重建
      */
     private boolean enableRecreate = false;
-}
\ No newline at end of file
+    /**
+     * 结果转换线程数，0 表示始终在调用线程转换
+     */
+    private int conversionThreads = DefaultConversionExecutor.DEFAULT_THREADS;
+    /**
+     * 结果行数达到该阈值才并行转换
+     */
+    private int conversionThreshold = DefaultConversionExecutor.DEFAULT_THRESHOLD;
+    /**
+     * 转换线程池排队分片上限
+     */
+    private int conversionQueueCapacity = DefaultConversionExecutor.DEFAULT_QUEUE_CAPACITY;
+    /**
+     * 单个 insert/upsert 请求的估算字节上限，超出时自动拆分
+     */
+    private long writeRequestBytes = RequestSplitter.DEFAULT_MAX_REQUEST_BYTES;
+    /**
+     * 拆分后并发发送的请求数
+     */
+    private int writeParallelism = RequestSplitter.DEFAULT_PARALLELISM;
+    /**
+     * autoID 主键生成的 workerId（0-1023），-1 表示自动推导
+     */
+    private int idWorkerId = -1;
+    /**
+     * 检索微批窗口（微秒），0 表示关闭
+     */
+    private long searchBatchWindowMicros = 0L;
+    /**
+     * 单次合并检索的最大查询向量数
+     */
+    private int searchBatchMaxSize = SearchMicroBatcher.DEFAULT_MAX_BATCH;
+    /**
+     * 相同检索/查询同时在途时只发送一次
+     */
+    private boolean singleFlight = false;
+    /**
+     * 检索/查询结果缓存（实体可用 @MilvusResultCache 单独配置）；Bounded / Eventually 一致性下写入后的读取可能缓存旧结果
+     */
+    private boolean resultCacheEnabled = false;
+    /**
+     * 结果缓存最大条目数
+     */
+    private long resultCacheMaxEntries = CaffeineResultCache.DEFAULT_MAX_ENTRIES;
+    /**
+     * 结果缓存过期时间（毫秒）
+     */
+    private long resultCacheTtlMillis = ResultCaches.DEFAULT_TTL_MILLIS;
+    /**
+     * 异步接口的平台线程数，0 表示 JDK 21+ 使用虚拟线程
+     */
+    private int asyncThreads = 0;
+    /**
+     * 异步接口的默认超时（毫秒），0 表示不限
+     */
+    private long asyncTimeoutMillis = 0L;
+    /**
+     * partial 更新是否使用服务端 partial upsert，false 时始终客户端读改写
+     */
+    private boolean serverPartialUpsert = true;
+    /**
+     * 使用服务端 partial upsert 的最低服务端版本
+     */
+    private String partialUpsertMinVersion = ServerCapabilityCache.DEFAULT_PARTIAL_UPSERT_VERSION;
+}
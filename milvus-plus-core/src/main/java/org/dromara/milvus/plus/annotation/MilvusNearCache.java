@@ -0,0 +1,32 @@
+package org.dromara.milvus.plus.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 开启实体的主键近端缓存：getById 命中的主键在本地返回，只为未命中的主键发送一次批量 get。
+ * <p>
+ * 通过本框架写入（insert / updateById / removeById 等）时按主键失效；其他进程的写入由 TTL 限制滞后时间。
+ *
+ * @author xgc
+ **/
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MilvusNearCache {
+    /**
+     * 最大条目数
+     */
+    long maxEntries() default 10_000L;
+
+    /**
+     * 最大占用内存（字节，按行估算）
+     */
+    long maxBytes() default 64L * 1024 * 1024;
+
+    /**
+     * 过期时间（毫秒）
+     */
+    long ttlMillis() default 30_000L;
+}
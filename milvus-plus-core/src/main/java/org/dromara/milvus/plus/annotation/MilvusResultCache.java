@@ -0,0 +1,28 @@
+package org.dromara.milvus.plus.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 实体级检索/查询结果缓存配置，覆盖全局 milvus.result-cache-* 配置。
+ * <p>
+ * 写入后通过本地版本号失效缓存。显式指定 Bounded / Eventually 一致性的请求不缓存；未指定时使用集合默认一致性
+ * （通常为 Bounded），写入后立即发生的读取可能读到旧数据并被缓存至过期，需要读己之写时请使用 Strong 或 Session。
+ *
+ * @author xgc
+ **/
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MilvusResultCache {
+    /**
+     * 是否缓存该实体的检索/查询结果
+     */
+    boolean enabled() default true;
+
+    /**
+     * 过期时间（毫秒），小于等于 0 时使用全局配置
+     */
+    long ttlMillis() default -1L;
+}
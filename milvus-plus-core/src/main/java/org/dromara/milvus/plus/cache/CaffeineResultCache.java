@@ -0,0 +1,85 @@
+package org.dromara.milvus.plus.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 默认结果缓存：Caffeine（W-TinyLFU 淘汰），按条目数限制容量，每个条目按写入时指定的 TTL 过期。
+ * 写入失效后的旧版本条目不再被访问，由淘汰策略自然清出，不做全表扫描。
+ *
+ * @author xgc
+ **/
+public class CaffeineResultCache implements ResultCache {
+
+    /**
+     * 默认最大条目数
+     */
+    public static final long DEFAULT_MAX_ENTRIES = 10_000L;
+
+    private final Cache<ResultCacheKey, Entry> cache;
+
+    public CaffeineResultCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public CaffeineResultCache(long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, maxEntries))
+                .expireAfter(new Expiry<ResultCacheKey, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ResultCacheKey key, Entry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ResultCacheKey key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ResultCacheKey key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Object get(ResultCacheKey key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public void put(ResultCacheKey key, Object value, long ttlMillis) {
+        if (value != null && ttlMillis > 0) {
+            cache.put(key, new Entry(value, TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+        }
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public ResultCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ResultCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long ttlNanos;
+
+        private Entry(Object value, long ttlNanos) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
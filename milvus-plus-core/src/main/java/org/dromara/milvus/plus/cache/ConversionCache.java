@@ -1,7 +1,15 @@
 package org.dromara.milvus.plus.cache;
 
 import lombok.Data;
+import org.dromara.milvus.plus.converter.DecodePlan;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.converter.binder.EntityBinder;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
+import org.dromara.milvus.plus.converter.binder.Projection;
 import org.dromara.milvus.plus.model.MilvusEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 /**
  * @author xgc
  **/
@@ -11,5 +19,10 @@ public class ConversionCache {
     private PropertyCache propertyCache;
     private MilvusEntity milvusEntity;
     private boolean autoID;
+    private DecodePlan decodePlan;
+    private EntityBinder<?> entityBinder;
+    private EntityEncoder<?> entityEncoder;
+    private RowSizeEstimator rowSizeEstimator;
+    private Map<Class<?>, Projection<?>> projections = new ConcurrentHashMap<>(); //投影类-->投影
 
 }
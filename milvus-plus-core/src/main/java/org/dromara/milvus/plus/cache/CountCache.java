@@ -0,0 +1,93 @@
+package org.dromara.milvus.plus.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 过滤条件计数缓存：游标分页按 集合 + 过滤条件 缓存 count(*) 结果，避免每页重新计数。
+ * <p>
+ * 条目按 TTL 过期，计数允许短暂滞后；写入后需要精确计数时可调用 {@link #evict(String)}。
+ *
+ * @author xgc
+ **/
+public class CountCache {
+
+    /**
+     * 默认过期时间（毫秒）
+     */
+    public static final long DEFAULT_TTL_MILLIS = 60_000L;
+    private static final int MAX_ENTRIES = 4096;
+    private static final char SEPARATOR = '\u0000';
+
+    private static final Map<String, Entry> counts = new ConcurrentHashMap<>(); //集合名称+过滤条件-->计数
+    private static volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+
+    private CountCache() {
+    }
+
+    /**
+     * 获取计数，缺失或过期时调用 loader 重新计数。
+     *
+     * @param collectionName 集合名称
+     * @param filterKey      过滤条件（含分区）
+     * @param loader         计数函数
+     * @return 计数
+     */
+    public static long get(String collectionName, String filterKey, LongSupplier loader) {
+        String key = collectionName + SEPARATOR + filterKey;
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(key);
+        if (entry != null && entry.expireAt > now) {
+            return entry.count;
+        }
+        long count = loader.getAsLong();
+        if (counts.size() >= MAX_ENTRIES) {
+            purgeExpired(now);
+            if (counts.size() >= MAX_ENTRIES) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    /**
+     * 清理指定集合的计数。
+     */
+    public static void evict(String collectionName) {
+        if (collectionName == null) {
+            return;
+        }
+        String prefix = collectionName + SEPARATOR;
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public static void clear() {
+        counts.clear();
+    }
+
+    public static void setTtlMillis(long ttlMillis) {
+        CountCache.ttlMillis = Math.max(0L, ttlMillis);
+    }
+
+    private static void purgeExpired(long now) {
+        Iterator<Entry> iterator = counts.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expireAt <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long count;
+        private final long expireAt;
+
+        private Entry(long count, long expireAt) {
+            this.count = count;
+            this.expireAt = expireAt;
+        }
+    }
+}
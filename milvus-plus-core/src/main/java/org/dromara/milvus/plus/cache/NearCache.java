@@ -0,0 +1,122 @@
+package org.dromara.milvus.plus.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.dromara.milvus.plus.util.RowCopyUtil;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个集合的主键近端缓存：主键索引（见 {@link org.dromara.milvus.plus.core.conditions.PrimaryKeys#key(Object)}）-> 原始行。
+ * <p>
+ * 同时按条目数与估算内存限制容量：每行权重取 max(估算字节数, maxBytes / maxEntries)，
+ * 总权重上限为 maxBytes，因此条目数不超过 maxEntries，内存不超过 maxBytes。
+ * 缓存原始行而非实体：写入与读取时都深拷贝行（含集合、数组与向量），每次命中重新绑定，
+ * 调用方拿到的实体与缓存中的行互不共享可变对象。
+ *
+ * @author xgc
+ **/
+public class NearCache {
+
+    private final Cache<String, Map<String, Object>> cache;
+    /**
+     * 写入失效计数：读取前记录，读取期间发生失效时不回填，避免写入前的旧行在写入后命中
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public NearCache(long maxEntries, long maxBytes, long ttlMillis) {
+        long entries = Math.max(1L, maxEntries);
+        long bytes = Math.max(entries, maxBytes);
+        int minWeight = (int) Math.min(Integer.MAX_VALUE, bytes / entries);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(bytes)
+                .<String, Map<String, Object>>weigher((key, row) ->
+                        (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, estimate(row))))
+                .expireAfterWrite(Math.max(1L, ttlMillis), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 命中时返回行的副本。
+     */
+    public Map<String, Object> get(String key) {
+        return RowCopyUtil.copy(cache.getIfPresent(key));
+    }
+
+    /**
+     * 当前失效计数，在发送 get 之前读取，回填时传入。
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 回填读取到的行；读取期间发生过失效时放弃。
+     */
+    public void put(long readGeneration, String key, Map<String, Object> row) {
+        if (key != null && row != null && generation.get() == readGeneration) {
+            cache.put(key, RowCopyUtil.copy(row));
+        }
+    }
+
+    public void evict(Collection<String> keys) {
+        generation.incrementAndGet();
+        cache.invalidateAll(keys);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 立即执行挂起的容量淘汰（Caffeine 默认异步淘汰）。
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public ResultCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ResultCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    /**
+     * 估算行占用的堆内存（字节）。
+     */
+    static long estimate(Object value) {
+        if (value == null) {
+            return 8;
+        }
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        }
+        if (value instanceof ByteBuffer) {
+            return 48 + ((ByteBuffer) value).capacity();
+        }
+        if (value instanceof Map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 40;
+            for (Object element : (Collection<?>) value) {
+                size += 8 + estimate(element);
+            }
+            return size;
+        }
+        return 64 + value.toString().length() * 2L;
+    }
+}
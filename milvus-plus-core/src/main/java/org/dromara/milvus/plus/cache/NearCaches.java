@@ -0,0 +1,110 @@
+package org.dromara.milvus.plus.cache;
+
+import com.google.gson.JsonObject;
+import org.dromara.milvus.plus.annotation.MilvusNearCache;
+import org.dromara.milvus.plus.core.conditions.PrimaryKeys;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按集合持有主键近端缓存（{@link NearCache}）。
+ * <p>
+ * 实体标注 {@link MilvusNearCache} 时在首次 getById 创建；经 insert/update/delete 构建器写入后按主键失效，
+ * 按条件删除、清空或删除集合时整体清空。
+ *
+ * @author xgc
+ **/
+public final class NearCaches {
+
+    private static final Map<String, Optional<NearCache>> CACHES = new ConcurrentHashMap<>();
+
+    private NearCaches() {
+    }
+
+    /**
+     * 集合的近端缓存，实体未标注 {@link MilvusNearCache} 时返回 null。
+     */
+    public static NearCache get(String collectionName, Class<?> entityType) {
+        if (collectionName == null || entityType == null) {
+            return null;
+        }
+        return CACHES.computeIfAbsent(collectionName, name -> {
+            MilvusNearCache annotation = entityType.getAnnotation(MilvusNearCache.class);
+            return annotation == null ? Optional.empty()
+                    : Optional.of(new NearCache(annotation.maxEntries(), annotation.maxBytes(), annotation.ttlMillis()));
+        }).orElse(null);
+    }
+
+    /**
+     * 写入（insert / upsert）后失效写入行的主键；行中无主键（autoID 插入）时无需失效。
+     */
+    public static void evictRows(String collectionName, List<JsonObject> rows) {
+        NearCache cache = existing(collectionName);
+        String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
+        if (cache == null || rows == null) {
+            return;
+        }
+        if (pk == null) {
+            cache.clear();
+            return;
+        }
+        List<String> keys = new ArrayList<>(rows.size());
+        for (JsonObject row : rows) {
+            String key = PrimaryKeys.key(row.get(pk));
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        cache.evict(keys);
+    }
+
+    /**
+     * 删除后失效；ids 为空表示按条件删除，整体清空。
+     */
+    public static void evictIds(String collectionName, Collection<?> ids) {
+        NearCache cache = existing(collectionName);
+        if (cache == null) {
+            return;
+        }
+        if (ids == null || ids.isEmpty()) {
+            cache.clear();
+            return;
+        }
+        List<String> keys = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            String key = PrimaryKeys.key(id);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        cache.evict(keys);
+    }
+
+    public static void clear(String collectionName) {
+        NearCache cache = existing(collectionName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 集合近端缓存的命中率等运行指标，未启用时返回 null。
+     */
+    public static ResultCacheStats stats(String collectionName) {
+        NearCache cache = existing(collectionName);
+        return cache == null ? null : cache.stats();
+    }
+
+    private static NearCache existing(String collectionName) {
+        if (collectionName == null) {
+            return null;
+        }
+        Optional<NearCache> cache = CACHES.get(collectionName);
+        return cache == null ? null : cache.orElse(null);
+    }
+}
@@ -1,5 +1,6 @@
 package org.dromara.milvus.plus.cache;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -20,8 +21,27 @@ public class PropertyCache {
 
     public Map<String, String> metaMethodMap = new HashMap<>(); //属性get方法名称
 
+    private volatile Map<String, String> propertyByColumn; //集合属性名称->属性名称（只读反向索引）
+
+    /**
+     * 基于 functionToPropertyMap 构建只读反向索引，映射填充完毕后调用一次。
+     * 同一集合属性对应多个属性时保留遍历顺序中的第一个，与线性查找结果一致。
+     */
+    public void buildIndex() {
+        Map<String, String> index = new HashMap<>(functionToPropertyMap.size() * 2);
+        for (Map.Entry<String, String> entry : functionToPropertyMap.entrySet()) {
+            index.putIfAbsent(entry.getValue(), entry.getKey());
+        }
+        propertyByColumn = Collections.unmodifiableMap(index);
+    }
+
     // 根据值查找第一个匹配的键
     public String findKeyByValue(String value) {
+        Map<String, String> index = propertyByColumn;
+        if (index != null) {
+            return index.get(value);
+        }
+        // 未构建索引（手工组装的缓存）时退化为线性查找
         for (Map.Entry<String, String> entry : functionToPropertyMap.entrySet()) {
             if (value.equals(entry.getValue())) {
                 return entry.getKey(); // 返回与值匹配的第一个键
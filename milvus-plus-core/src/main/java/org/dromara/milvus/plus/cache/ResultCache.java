@@ -0,0 +1,39 @@
+package org.dromara.milvus.plus.cache;
+
+/**
+ * 检索/查询结果缓存 SPI，默认实现见 {@link CaffeineResultCache}，可通过 {@link ResultCaches#set(ResultCache)} 替换。
+ * <p>
+ * 写入后的失效由 {@link ResultCaches} 通过键中的集合版本号保证：旧版本的条目不再被读取，实现只需按 TTL/容量淘汰；
+ * {@link #invalidate(String)} 供外部存储提前清理。
+ *
+ * @author xgc
+ **/
+public interface ResultCache {
+
+    /**
+     * 读取缓存，不存在或已过期时返回 null。
+     */
+    Object get(ResultCacheKey key);
+
+    /**
+     * 写入缓存。
+     *
+     * @param key       键
+     * @param value     结果（调用方不会再修改）
+     * @param ttlMillis 过期时间（毫秒）
+     */
+    void put(ResultCacheKey key, Object value, long ttlMillis);
+
+    /**
+     * 集合发生写入，可清理该集合的条目。
+     */
+    default void invalidate(String collectionName) {
+    }
+
+    void clear();
+
+    /**
+     * 命中率等运行指标。
+     */
+    ResultCacheStats stats();
+}
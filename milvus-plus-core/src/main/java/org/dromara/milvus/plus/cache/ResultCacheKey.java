@@ -0,0 +1,28 @@
+package org.dromara.milvus.plus.cache;
+
+import lombok.Data;
+
+/**
+ * 结果缓存键：客户端 + 集合 + 集合版本号 + 规范化请求指纹。
+ *
+ * @author xgc
+ **/
+@Data
+public final class ResultCacheKey {
+    /**
+     * 客户端实例（按引用比较），区分连接不同集群或数据库的客户端
+     */
+    private final Object client;
+    /**
+     * 集合名称
+     */
+    private final String collectionName;
+    /**
+     * 集合版本号，写入后递增
+     */
+    private final long generation;
+    /**
+     * 规范化请求指纹（含结果类型）
+     */
+    private final String fingerprint;
+}
@@ -0,0 +1,28 @@
+package org.dromara.milvus.plus.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 结果缓存运行指标。
+ *
+ * @author xgc
+ **/
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultCacheStats {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long size;
+
+    /**
+     * 命中率，无请求时为 0。
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
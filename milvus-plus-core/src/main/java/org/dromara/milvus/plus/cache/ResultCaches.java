@@ -0,0 +1,138 @@
+package org.dromara.milvus.plus.cache;
+
+import org.dromara.milvus.plus.annotation.MilvusResultCache;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 全局检索/查询结果缓存。
+ * <p>
+ * 是否缓存及过期时间按实体上的 {@link MilvusResultCache} 决定，未标注时使用全局配置（默认关闭）。
+ * 经 insert/update/delete 构建器写入集合后调用 {@link #invalidate(String)}：集合版本号递增，
+ * 写入前（含写入期间读取到的）结果不再命中。启动时按 {@link MilvusProperties} 配置，
+ * 也可通过 {@link #set(ResultCache)} 替换存储实现。
+ *
+ * @author xgc
+ **/
+public final class ResultCaches {
+
+    /**
+     * 默认过期时间（毫秒）
+     */
+    public static final long DEFAULT_TTL_MILLIS = 60_000L;
+
+    private static volatile ResultCache cache;
+    private static volatile boolean enabled;
+    private static volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+    private static volatile long maxEntries = CaffeineResultCache.DEFAULT_MAX_ENTRIES;
+
+    private static final Map<String, AtomicLong> GENERATIONS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Long> ENTITY_TTL = new ConcurrentHashMap<>();
+
+    private ResultCaches() {
+    }
+
+    public static ResultCache get() {
+        ResultCache current = cache;
+        if (current == null) {
+            synchronized (ResultCaches.class) {
+                current = cache;
+                if (current == null) {
+                    current = new CaffeineResultCache(maxEntries);
+                    cache = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 替换缓存存储。
+     */
+    public static void set(ResultCache resultCache) {
+        if (resultCache == null) {
+            throw new IllegalArgumentException("resultCache must not be null");
+        }
+        cache = resultCache;
+    }
+
+    public static void configure(MilvusProperties properties) {
+        enabled = properties.isResultCacheEnabled();
+        ttlMillis = Math.max(0L, properties.getResultCacheTtlMillis());
+        synchronized (ResultCaches.class) {
+            maxEntries = properties.getResultCacheMaxEntries();
+            cache = null;
+        }
+        ENTITY_TTL.clear();
+    }
+
+    /**
+     * 实体结果的缓存时间（毫秒），0 表示不缓存。
+     *
+     * @param entityType 实体类型，可为空
+     */
+    public static long ttlMillis(Class<?> entityType) {
+        if (entityType == null) {
+            return enabled ? ttlMillis : 0L;
+        }
+        return ENTITY_TTL.computeIfAbsent(entityType, type -> {
+            MilvusResultCache annotation = type.getAnnotation(MilvusResultCache.class);
+            if (annotation == null) {
+                return enabled ? ttlMillis : 0L;
+            }
+            if (!annotation.enabled()) {
+                return 0L;
+            }
+            return annotation.ttlMillis() > 0 ? annotation.ttlMillis() : ttlMillis;
+        });
+    }
+
+    /**
+     * 以集合当前版本号构建缓存键；须在发送请求之前构建，保证与写入并发的读取结果不会在写入后命中。
+     */
+    public static ResultCacheKey key(Object client, String collectionName, String fingerprint) {
+        return new ResultCacheKey(client, collectionName, generation(collectionName).get(), fingerprint);
+    }
+
+    public static Object lookup(ResultCacheKey key) {
+        return get().get(key);
+    }
+
+    public static void put(ResultCacheKey key, Object value, long ttlMillis) {
+        get().put(key, value, ttlMillis);
+    }
+
+    /**
+     * 集合发生写入：结果缓存失效，并清理该集合的分页计数缓存。
+     */
+    public static void invalidate(String collectionName) {
+        if (collectionName == null) {
+            return;
+        }
+        generation(collectionName).incrementAndGet();
+        CountCache.evict(collectionName);
+        ResultCache current = cache;
+        if (current != null) {
+            current.invalidate(collectionName);
+        }
+    }
+
+    public static void clear() {
+        get().clear();
+        CountCache.clear();
+    }
+
+    /**
+     * 命中率等运行指标。
+     */
+    public static ResultCacheStats stats() {
+        return get().stats();
+    }
+
+    private static AtomicLong generation(String collectionName) {
+        return GENERATIONS.computeIfAbsent(collectionName, name -> new AtomicLong());
+    }
+}
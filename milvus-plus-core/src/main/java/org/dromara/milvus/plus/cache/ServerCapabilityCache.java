@@ -0,0 +1,121 @@
+package org.dromara.milvus.plus.cache;
+
+import io.milvus.v2.client.MilvusClientV2;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 服务端能力缓存：每个客户端只探测一次服务端版本，客户端被回收后条目随之清除。
+ * <p>
+ * 启动时按 {@link MilvusProperties} 配置：可关闭服务端 partial upsert（始终客户端读改写），或调整其最低版本。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class ServerCapabilityCache {
+
+    /**
+     * 默认服务端 partial upsert 的最低版本
+     */
+    public static final String DEFAULT_PARTIAL_UPSERT_VERSION = "2.6.0";
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.(\\d+)(?:\\.(\\d+))?");
+
+    private static volatile boolean serverPartialUpsert = true;
+    private static volatile int[] partialUpsertVersion = parse(DEFAULT_PARTIAL_UPSERT_VERSION);
+
+    private static final Map<MilvusClientV2, Boolean> partialUpsert = Collections.synchronizedMap(new WeakHashMap<>()); //客户端-->是否支持 partial upsert
+
+    private ServerCapabilityCache() {
+    }
+
+    public static void configure(MilvusProperties properties) {
+        int[] version = parse(properties.getPartialUpsertMinVersion());
+        if (version == null) {
+            throw MilvusPlusException.of("INVALID_CONFIG",
+                    "Invalid partial-upsert-min-version: " + properties.getPartialUpsertMinVersion());
+        }
+        serverPartialUpsert = properties.isServerPartialUpsert();
+        partialUpsertVersion = version;
+        partialUpsert.clear();
+    }
+
+    /**
+     * 服务端是否支持 partial upsert（UpsertReq.partialUpdate）；版本探测失败时按不支持处理。
+     */
+    public static boolean supportsPartialUpsert(MilvusClientV2 client) {
+        if (client == null || !serverPartialUpsert) {
+            return false;
+        }
+        Boolean supported = partialUpsert.get(client);
+        if (supported == null) {
+            supported = detectPartialUpsert(client);
+            partialUpsert.put(client, supported);
+        }
+        return supported;
+    }
+
+    public static void evict(MilvusClientV2 client) {
+        partialUpsert.remove(client);
+    }
+
+    private static boolean detectPartialUpsert(MilvusClientV2 client) {
+        String version = null;
+        try {
+            version = client.getServerVersion();
+        } catch (Exception e) {
+            log.warn("Failed to detect Milvus server version, partial upsert falls back to read-merge: {}", e.toString());
+        }
+        boolean supported = supportsPartialUpsert(version);
+        log.info("Milvus server version {}, server-side partial upsert {}", version, supported ? "enabled" : "disabled");
+        return supported;
+    }
+
+    /**
+     * 按当前配置判断该服务端版本（getServerVersion 的返回值）是否使用服务端 partial upsert。
+     */
+    static boolean supportsPartialUpsert(String serverVersion) {
+        return serverPartialUpsert && atLeast(serverVersion, partialUpsertVersion);
+    }
+
+    /**
+     * 版本号是否不低于 required，可解析 v2.6.1、2.6.0-rc1 等格式，无法解析时返回 false。
+     */
+    static boolean atLeast(String version, int[] required) {
+        int[] actual = parse(version);
+        if (actual == null) {
+            return false;
+        }
+        for (int i = 0; i < required.length; i++) {
+            if (actual[i] != required[i]) {
+                return actual[i] > required[i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 解析为 {主版本, 次版本, 修订号}，缺省修订号为 0，无法解析时返回 null。
+     */
+    private static int[] parse(String version) {
+        if (version == null) {
+            return null;
+        }
+        Matcher matcher = VERSION.matcher(version);
+        if (!matcher.find()) {
+            return null;
+        }
+        int[] parsed = new int[3];
+        for (int i = 0; i < parsed.length; i++) {
+            String part = matcher.group(i + 1);
+            parsed[i] = part == null ? 0 : Integer.parseInt(part);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,37 @@
+package org.dromara.milvus.plus.converter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 结果转换执行器：将 SDK 返回的行批量转换为实体结果。
+ * <p>
+ * 实现必须保持输入顺序（检索结果的排名顺序），并控制并行度，避免与业务共用 ForkJoinPool 公共池。
+ * 默认实现见 {@link DefaultConversionExecutor}，可通过 {@link ConversionExecutors#set(ConversionExecutor)} 替换。
+ *
+ * @author xgc
+ **/
+public interface ConversionExecutor {
+
+    /**
+     * 按顺序转换。
+     *
+     * @param source 原始行
+     * @param mapper 单行转换函数，需线程安全
+     * @return 与 source 一一对应的转换结果
+     */
+    <S, R> List<R> map(List<S> source, Function<? super S, ? extends R> mapper);
+
+    /**
+     * 运行指标，不支持时返回 null。
+     */
+    default ConversionMetrics metrics() {
+        return null;
+    }
+
+    /**
+     * 释放执行器持有的线程。
+     */
+    default void shutdown() {
+    }
+}
@@ -0,0 +1,64 @@
+package org.dromara.milvus.plus.converter;
+
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+/**
+ * 全局结果转换执行器。
+ * <p>
+ * 启动时按 {@link MilvusProperties} 配置默认实现；也可通过 {@link #set(ConversionExecutor)} 替换为自定义实现。
+ *
+ * @author xgc
+ **/
+public final class ConversionExecutors {
+
+    private static volatile ConversionExecutor executor;
+
+    private ConversionExecutors() {
+    }
+
+    public static ConversionExecutor get() {
+        ConversionExecutor current = executor;
+        if (current == null) {
+            synchronized (ConversionExecutors.class) {
+                current = executor;
+                if (current == null) {
+                    current = new DefaultConversionExecutor();
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 替换全局执行器，原执行器在处理完已提交的任务后关闭。
+     */
+    public static void set(ConversionExecutor conversionExecutor) {
+        if (conversionExecutor == null) {
+            throw new IllegalArgumentException("conversionExecutor must not be null");
+        }
+        ConversionExecutor previous;
+        synchronized (ConversionExecutors.class) {
+            previous = executor;
+            executor = conversionExecutor;
+        }
+        if (previous != null && previous != conversionExecutor) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * 按配置创建默认执行器。
+     */
+    public static void configure(MilvusProperties properties) {
+        set(new DefaultConversionExecutor(properties.getConversionThreads(),
+                properties.getConversionThreshold(), properties.getConversionQueueCapacity()));
+    }
+
+    /**
+     * 当前执行器的运行指标，不支持时返回 null。
+     */
+    public static ConversionMetrics metrics() {
+        return get().metrics();
+    }
+}
@@ -0,0 +1,127 @@
+package org.dromara.milvus.plus.converter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * 结果转换执行器指标，用于评估线程数与阈值配置。
+ *
+ * @author xgc
+ **/
+public class ConversionMetrics {
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder inlineBatches = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder submittedChunks = new LongAdder();
+    private final LongAdder stolenChunks = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+    private final IntSupplier queueSize;
+
+    public ConversionMetrics(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    void recordBatch(int size, boolean inline, long nanos) {
+        batches.increment();
+        rows.add(size);
+        if (inline) {
+            inlineBatches.increment();
+        }
+        latencyNanos.add(nanos);
+        maxLatencyNanos.accumulate(nanos);
+    }
+
+    void recordSubmitted() {
+        submittedChunks.increment();
+    }
+
+    void recordStolen() {
+        stolenChunks.increment();
+    }
+
+    void recordQueueWait(long nanos) {
+        queueWaitNanos.add(nanos);
+        maxQueueWaitNanos.accumulate(nanos);
+    }
+
+    /**
+     * 转换批次总数（每次检索/查询一批）
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * 低于阈值、直接在调用线程完成的批次数
+     */
+    public long getInlineBatches() {
+        return inlineBatches.sum();
+    }
+
+    /**
+     * 转换行总数
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * 提交到线程池的分片数
+     */
+    public long getSubmittedChunks() {
+        return submittedChunks.sum();
+    }
+
+    /**
+     * 已提交但线程池未及时执行、由调用线程取回执行的分片数；持续偏高说明线程数不足
+     */
+    public long getStolenChunks() {
+        return stolenChunks.sum();
+    }
+
+    /**
+     * 当前排队中的分片数
+     */
+    public int getQueueSize() {
+        return queueSize.getAsInt();
+    }
+
+    /**
+     * 线程池执行的分片平均排队耗时（微秒）
+     */
+    public long getAvgQueueWaitMicros() {
+        long executed = submittedChunks.sum() - stolenChunks.sum();
+        return executed <= 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(queueWaitNanos.sum() / executed);
+    }
+
+    public long getMaxQueueWaitMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxQueueWaitNanos.get());
+    }
+
+    /**
+     * 每批转换平均耗时（微秒）
+     */
+    public long getAvgLatencyMicros() {
+        long count = batches.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(latencyNanos.sum() / count);
+    }
+
+    public long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionMetrics{batches=" + getBatches() + ", inlineBatches=" + getInlineBatches()
+                + ", rows=" + getRows() + ", submittedChunks=" + getSubmittedChunks()
+                + ", stolenChunks=" + getStolenChunks() + ", queueSize=" + getQueueSize()
+                + ", avgQueueWaitMicros=" + getAvgQueueWaitMicros() + ", maxQueueWaitMicros=" + getMaxQueueWaitMicros()
+                + ", avgLatencyMicros=" + getAvgLatencyMicros() + ", maxLatencyMicros=" + getMaxLatencyMicros() + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package org.dromara.milvus.plus.converter;
+
+import org.dromara.milvus.plus.cache.PropertyCache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 实体解码计划：集合属性名称与 Java 属性名称的一一对应，在 {@link MilvusConverter#convert(Class)} 中构建一次。
+ * <p>
+ * 结果转换时按计划逐列取值，不再对每一行的每个字段反查 {@link PropertyCache}。
+ *
+ * @author xgc
+ **/
+public final class DecodePlan {
+
+    private final String[] columns;
+    private final String[] properties;
+
+    private DecodePlan(String[] columns, String[] properties) {
+        this.columns = columns;
+        this.properties = properties;
+    }
+
+    public static DecodePlan of(PropertyCache propertyCache) {
+        Map<String, String> mapping = propertyCache.functionToPropertyMap;
+        String[] columns = new String[mapping.size()];
+        String[] properties = new String[mapping.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : mapping.entrySet()) {
+            // 反向索引决定同名集合属性归属哪个 Java 属性，保持与 findKeyByValue 一致
+            if (!entry.getKey().equals(propertyCache.findKeyByValue(entry.getValue()))) {
+                continue;
+            }
+            columns[i] = entry.getValue();
+            properties[i] = entry.getKey();
+            i++;
+        }
+        if (i < columns.length) {
+            String[] c = new String[i];
+            String[] p = new String[i];
+            System.arraycopy(columns, 0, c, 0, i);
+            System.arraycopy(properties, 0, p, 0, i);
+            return new DecodePlan(c, p);
+        }
+        return new DecodePlan(columns, properties);
+    }
+
+    /**
+     * 按给定的集合属性名称与 Java 属性名称构建解码计划（投影类使用）。
+     *
+     * @param columns    集合属性名称
+     * @param properties 与 columns 一一对应的 Java 属性名称
+     * @return 解码计划
+     */
+    public static DecodePlan of(String[] columns, String[] properties) {
+        if (columns.length != properties.length) {
+            throw new IllegalArgumentException("columns and properties must have the same length");
+        }
+        return new DecodePlan(columns.clone(), properties.clone());
+    }
+
+    public int size() {
+        return columns.length;
+    }
+
+    public String column(int index) {
+        return columns[index];
+    }
+
+    public String property(int index) {
+        return properties[index];
+    }
+
+    /**
+     * 将一行集合数据（集合属性名称->值）转换为 Java 属性名称->值，未映射的列被忽略。
+     *
+     * @param row SDK 返回的行数据
+     * @return 以 Java 属性名称为键的 Map
+     */
+    public Map<String, Object> remap(Map<String, Object> row) {
+        Map<String, Object> result = new HashMap<>(Math.max(4, columns.length * 2));
+        if (row == null) {
+            return result;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            Object value = row.get(columns[i]);
+            if (value != null || row.containsKey(columns[i])) {
+                result.put(properties[i], value);
+            }
+        }
+        return result;
+    }
+}
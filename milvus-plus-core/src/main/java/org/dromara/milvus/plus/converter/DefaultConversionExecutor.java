@@ -0,0 +1,197 @@
+package org.dromara.milvus.plus.converter;
+
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 默认结果转换执行器：独立的有界线程池 + 行数阈值。
+ * <p>
+ * 行数低于阈值时直接在调用线程转换；否则按连续区间分片，调用线程执行第一片并参与其余分片，
+ * 线程池排队已满或来不及执行的分片由调用线程取回执行，结果按原下标写回，保持排名顺序。
+ *
+ * @author xgc
+ **/
+public class DefaultConversionExecutor implements ConversionExecutor {
+
+    /**
+     * 默认线程数：CPU 核数，最多 4 个
+     */
+    public static final int DEFAULT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+    /**
+     * 默认并行阈值（行数）
+     */
+    public static final int DEFAULT_THRESHOLD = 512;
+    /**
+     * 默认排队分片上限
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    /**
+     * 单个分片的最少行数，避免切得过碎
+     */
+    private static final int MIN_CHUNK_ROWS = 64;
+
+    private static final AtomicInteger POOL_SEQ = new AtomicInteger();
+
+    private final int threads;
+    private final int threshold;
+    private final ThreadPoolExecutor pool;
+    private final ConversionMetrics metrics;
+
+    public DefaultConversionExecutor() {
+        this(DEFAULT_THREADS, DEFAULT_THRESHOLD, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param threads       线程数，0 表示始终在调用线程转换
+     * @param threshold     并行阈值（行数），低于该值在调用线程转换
+     * @param queueCapacity 排队分片上限，超出的分片由调用线程执行
+     */
+    public DefaultConversionExecutor(int threads, int threshold, int queueCapacity) {
+        this.threads = Math.max(0, threads);
+        this.threshold = Math.max(1, threshold);
+        if (this.threads > 0) {
+            int poolId = POOL_SEQ.incrementAndGet();
+            AtomicInteger threadSeq = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(this.threads, this.threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                    r -> {
+                        Thread thread = new Thread(r, "milvus-plus-convert-" + poolId + "-" + threadSeq.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.pool.allowCoreThreadTimeOut(true);
+        } else {
+            this.pool = null;
+        }
+        this.metrics = new ConversionMetrics(() -> pool == null ? 0 : pool.getQueue().size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S, R> List<R> map(List<S> source, Function<? super S, ? extends R> mapper) {
+        long start = System.nanoTime();
+        int size = source.size();
+        if (pool == null || size < threshold || size < 2 * MIN_CHUNK_ROWS) {
+            List<R> results = new ArrayList<>(size);
+            for (S s : source) {
+                results.add(mapper.apply(s));
+            }
+            metrics.recordBatch(size, true, System.nanoTime() - start);
+            return results;
+        }
+        List<S> rows = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        int chunks = Math.min(threads + 1, size / MIN_CHUNK_ROWS);
+        int chunkSize = (size + chunks - 1) / chunks;
+        Object[] results = new Object[size];
+        List<Chunk<S>> submitted = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            Chunk<S> chunk = new Chunk<>(rows, mapper, results, from, Math.min(size, from + chunkSize));
+            submitted.add(chunk);
+            metrics.recordSubmitted();
+            try {
+                pool.execute(chunk);
+            } catch (RejectedExecutionException e) {
+                // 队列已满：留给调用线程执行
+            }
+        }
+        new Chunk<>(rows, mapper, results, 0, Math.min(size, chunkSize)).runInline();
+        // 调用线程取回尚未开始的分片
+        for (Chunk<S> chunk : submitted) {
+            if (chunk.claim()) {
+                metrics.recordStolen();
+                chunk.runInline();
+            }
+        }
+        for (Chunk<S> chunk : submitted) {
+            chunk.await();
+        }
+        metrics.recordBatch(size, false, System.nanoTime() - start);
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    @Override
+    public ConversionMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private final class Chunk<S> implements Runnable {
+        private final List<S> source;
+        private final Function<? super S, ?> mapper;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final long submitNanos = System.nanoTime();
+        private volatile RuntimeException failure;
+
+        private Chunk(List<S> source, Function<? super S, ?> mapper, Object[] results, int from, int to) {
+            this.source = source;
+            this.mapper = mapper;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                metrics.recordQueueWait(System.nanoTime() - submitNanos);
+                execute();
+            }
+        }
+
+        private void runInline() {
+            execute();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void execute() {
+            try {
+                for (int i = from; i < to; i++) {
+                    results[i] = mapper.apply(source.get(i));
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } catch (Error e) {
+                failure = new MilvusPlusException("CONVERSION_FAILED", e.toString(), e);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw MilvusPlusException.of("CONVERSION_INTERRUPTED", "Interrupted while converting results");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
 import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.MilvusCache;
 import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.converter.binder.EntityBinder;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
 import org.dromara.milvus.plus.model.MilvusEntity;
 import org.dromara.milvus.plus.util.AnalyzerParamsUtils;
 import org.dromara.milvus.plus.util.GsonUtil;
@@ -30,6 +32,7 @@ import org.springframework.util.CollectionUtils;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.FloatBuffer;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -166,6 +169,10 @@ public class MilvusConverter {
 //                               if (!isListFloat(field)) {
 //                                   throw new IllegalArgumentException("Vector field type mismatch");
 //                                }
+                                if (fieldAnnotation.dataType() == DataType.FloatVector && !isFloatVector(field)) {
+                                    log.warn("FloatVector field {}.{} should be List<Float>, float[] or FloatBuffer",
+                                            entityClass.getSimpleName(), field.getName());
+                                }
                             } );
             // 数组字段的最大长度
             Optional.of(fieldAnnotation.maxLength())
@@ -182,12 +189,18 @@ public class MilvusConverter {
         milvus.setMilvusFields(milvusFields);
         milvus.setIndexParams(indexParams);
         milvus.setFunctions(functions);
+        // 预构建反向索引与解码计划，结果转换时不再逐行反查
+        propertyCache.buildIndex();
         // 缓存转换结果和集合信息
         ConversionCache conversionCache = new ConversionCache();
         conversionCache.setMilvusEntity(milvus);
         conversionCache.setCollectionName(collectionName);
         conversionCache.setPropertyCache(propertyCache);
         conversionCache.setAutoID(autoID);
+        DecodePlan decodePlan = DecodePlan.of(propertyCache);
+        conversionCache.setDecodePlan(decodePlan);
+        conversionCache.setEntityBinder(EntityBinder.of(entityClass, decodePlan));
+        conversionCache.setEntityEncoder(EntityEncoder.of(entityClass, propertyCache, enableDynamicField, autoID));
         MilvusCache.milvusCache.put(entityClass.getName(), conversionCache);
 
         return milvus;
@@ -339,6 +352,20 @@ public class MilvusConverter {
         client.loadPartitions(loadPartitionsReq);
         log.info("load partition--{}", milvusEntity.getPartitionName());
     }
+    /**
+     * 判断字段是否可作为 FloatVector：List<Float>、float[] 或 FloatBuffer。
+     *
+     * @param field 要检查的字段
+     * @return 支持时返回 true
+     */
+    public static boolean isFloatVector(Field field) {
+        if (field == null) {
+            return false;
+        }
+        Class<?> type = field.getType();
+        return type == float[].class || type == FloatBuffer.class || isListFloat(field);
+    }
+
     /**
      * 判断字段是否是 List<Float> 类型。
      *
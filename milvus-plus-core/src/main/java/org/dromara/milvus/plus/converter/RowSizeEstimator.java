@@ -0,0 +1,128 @@
+package org.dromara.milvus.plus.converter;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.milvus.v2.common.DataType;
+import io.milvus.v2.service.collection.request.AddFieldReq;
+import org.dromara.milvus.plus.model.MilvusEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按集合结构估算行的序列化大小，用于将写入请求拆分到字节预算以内。
+ * <p>
+ * 定长列（标量数值、稠密向量）按 类型宽度 × 维度 计算，不读取取值；VarChar、JSON、Array、稀疏向量与动态字段按实际取值估算：
+ * 数值按 8 字节、布尔按 1 字节、字符串按 UTF-8 上限，另计少量结构开销，宁大勿小。
+ * 新增、更新的请求拆分与批量写入器共用该估算。
+ * 每个实体类构建一次，缓存在 {@link org.dromara.milvus.plus.cache.ConversionCache} 中。
+ *
+ * @author xgc
+ **/
+public final class RowSizeEstimator {
+
+    private static final RowSizeEstimator DYNAMIC = new RowSizeEstimator(new HashMap<>());
+    private static final int FIELD_OVERHEAD = 4;
+
+    /**
+     * 集合属性名称 -> 定长字节数
+     */
+    private final Map<String, Long> fixedWidths;
+
+    private RowSizeEstimator(Map<String, Long> fixedWidths) {
+        this.fixedWidths = fixedWidths;
+    }
+
+    public static RowSizeEstimator of(MilvusEntity milvusEntity) {
+        if (milvusEntity == null || milvusEntity.getMilvusFields() == null) {
+            return DYNAMIC;
+        }
+        List<AddFieldReq> fields = milvusEntity.getMilvusFields();
+        Map<String, Long> fixedWidths = new HashMap<>(fields.size() * 2);
+        for (AddFieldReq field : fields) {
+            long width = fixedWidth(field);
+            if (width > 0) {
+                fixedWidths.put(field.getFieldName(), width);
+            }
+        }
+        return new RowSizeEstimator(fixedWidths);
+    }
+
+    /**
+     * 估算一行的序列化字节数。
+     */
+    public long estimate(JsonObject row) {
+        long size = 0;
+        for (Map.Entry<String, JsonElement> entry : row.entrySet()) {
+            Long width = fixedWidths.get(entry.getKey());
+            size += width != null ? width : estimate(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long estimate(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return 1;
+        }
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                return 8;
+            }
+            if (primitive.isBoolean()) {
+                return 1;
+            }
+            // 按 UTF-8 最坏情况（中文等 3 字节）估算
+            return (long) primitive.getAsString().length() * 3 + FIELD_OVERHEAD;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            long size = FIELD_OVERHEAD;
+            for (JsonElement item : array) {
+                size += estimate(item);
+            }
+            return size;
+        }
+        long size = FIELD_OVERHEAD;
+        for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+            size += entry.getKey().length() + FIELD_OVERHEAD + estimate(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long fixedWidth(AddFieldReq field) {
+        DataType dataType = field.getDataType();
+        if (dataType == null) {
+            return -1;
+        }
+        int dimension = field.getDimension() == null ? 0 : field.getDimension();
+        switch (dataType) {
+            case Bool:
+            case Int8:
+                return 1;
+            case Int16:
+                return 2;
+            case Int32:
+            case Float:
+                return 4;
+            case Int64:
+            case Double:
+                return 8;
+            case FloatVector:
+                return dimension > 0 ? 4L * dimension : -1;
+            case Float16Vector:
+            case BFloat16Vector:
+                return dimension > 0 ? 2L * dimension : -1;
+            case BinaryVector:
+                return dimension > 0 ? (dimension + 7) / 8 : -1;
+            case Int8Vector:
+                return dimension > 0 ? dimension : -1;
+            default:
+                // VarChar、JSON、Array、稀疏向量等变长列按实际取值估算
+                return -1;
+        }
+    }
+}
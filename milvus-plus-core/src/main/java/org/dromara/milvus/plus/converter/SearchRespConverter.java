@@ -6,11 +6,13 @@ import io.milvus.v2.service.vector.response.SearchResp;
 import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.MilvusCache;
 import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.converter.binder.EntityBinder;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.model.vo.MilvusResult;
-import org.dromara.milvus.plus.util.GsonUtil;
+import org.dromara.milvus.plus.util.RowCopyUtil;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -28,33 +30,39 @@ public class SearchRespConverter {
      * @return 转换后的MilvusResp对象，其中包含了列表形式的搜索结果以及操作是否成功的标志。
      */
     public static <T> MilvusResp<List<MilvusResult<T>>> convertSearchRespToMilvusResp(SearchResp searchResp, Class<T> entityType) {
-        // 从缓存中获取对应实体类型的转换缓存和属性缓存
-        ConversionCache conversionCache = MilvusCache.milvusCache.get(entityType.getName());
-        PropertyCache propertyCache = conversionCache.getPropertyCache();
+        return convertSearchRespToMilvusResp(searchResp, entityType, false);
+    }
 
-        List<MilvusResult<T>> results = Optional.ofNullable(searchResp.getSearchResults())
+    /**
+     * 同 {@link #convertSearchRespToMilvusResp(SearchResp, Class)}，lazy 为 true 时只填充 id 与得分，
+     * 实体保留原始行、在首次 {@link MilvusResult#getEntity()} 时解码。
+     *
+     * @param searchResp Milvus搜索操作的原始响应对象
+     * @param entityType 指定的Java实体类类型
+     * @param lazy       是否延迟解码实体
+     * @return 转换后的MilvusResp对象
+     */
+    public static <T> MilvusResp<List<MilvusResult<T>>> convertSearchRespToMilvusResp(SearchResp searchResp, Class<T> entityType, boolean lazy) {
+        // 从缓存中获取对应实体类型的绑定器
+        return convertSearchRespToMilvusResp(searchResp, binder(entityType), lazy);
+    }
+
+    /**
+     * 使用指定绑定器转换搜索结果（投影类使用）。
+     *
+     * @param searchResp Milvus搜索操作的原始响应对象
+     * @param binder     行绑定器
+     * @param lazy       是否延迟解码实体
+     * @return 转换后的MilvusResp对象
+     */
+    public static <T> MilvusResp<List<MilvusResult<T>>> convertSearchRespToMilvusResp(SearchResp searchResp, EntityBinder<T> binder, boolean lazy) {
+
+        List<SearchResp.SearchResult> hits = Optional.ofNullable(searchResp.getSearchResults())
                 .orElseGet(ArrayList::new)
-                .parallelStream()
+                .stream()
                 .flatMap(List::stream)
-                .map(searchResult -> {
-                    // 根据属性缓存，将实体Map中的键转换为对应的Java实体类字段名
-                    Map<String, Object> entityMap = new HashMap<>();
-                    for (Map.Entry<String, Object> entry : searchResult.getEntity().entrySet()) {
-                        String key = propertyCache.findKeyByValue(entry.getKey());
-                        if(key!=null){
-                            Object value = entry.getValue();
-                            entityMap.put(key,value);
-                        }
-                    }
-                    // 将转换后的Map转换为Java实体类T
-                    T entity = GsonUtil.convertMapToType(entityMap, entityType);
-                    MilvusResult<T> tMilvusResult = new MilvusResult<>();
-                    tMilvusResult.setId(searchResult.getId());
-                    tMilvusResult.setDistance(searchResult.getScore());
-                    tMilvusResult.setEntity(entity);
-                    return tMilvusResult;
-                })
                 .collect(Collectors.toList());
+        List<MilvusResult<T>> results = convertHits(hits, binder, lazy);
 
         MilvusResp<List<MilvusResult<T>>> milvusResp = new MilvusResp<>();
         milvusResp.setData(results);
@@ -63,6 +71,95 @@ public class SearchRespConverter {
         return milvusResp;
     }
 
+    /**
+     * 按查询向量分组转换搜索结果：第 i 组对应第 i 个查询向量（nq），各组保持排名顺序。
+     *
+     * @param searchResp Milvus搜索操作的原始响应对象
+     * @param binder     行绑定器
+     * @param lazy       是否延迟解码实体
+     * @return 每个查询向量一组结果
+     */
+    public static <T> MilvusResp<List<List<MilvusResult<T>>>> convertSearchRespToGroups(SearchResp searchResp, EntityBinder<T> binder, boolean lazy) {
+        List<List<SearchResp.SearchResult>> groups = Optional.ofNullable(searchResp.getSearchResults()).orElseGet(ArrayList::new);
+        List<SearchResp.SearchResult> hits = new ArrayList<>();
+        for (List<SearchResp.SearchResult> group : groups) {
+            hits.addAll(group);
+        }
+        // 整体转换以便按阈值并行，再按各组大小切回
+        List<MilvusResult<T>> converted = convertHits(hits, binder, lazy);
+        List<List<MilvusResult<T>>> results = new ArrayList<>(groups.size());
+        int from = 0;
+        for (List<SearchResp.SearchResult> group : groups) {
+            results.add(new ArrayList<>(converted.subList(from, from + group.size())));
+            from += group.size();
+        }
+        MilvusResp<List<List<MilvusResult<T>>>> milvusResp = new MilvusResp<>();
+        milvusResp.setData(results);
+        milvusResp.setSuccess(true);
+        return milvusResp;
+    }
+
+    private static <T> List<MilvusResult<T>> convertHits(List<SearchResp.SearchResult> hits, EntityBinder<T> binder, boolean lazy) {
+        if (lazy) {
+            // 延迟解码：不经过转换执行器，只记录原始行
+            List<MilvusResult<T>> results = new ArrayList<>(hits.size());
+            for (SearchResp.SearchResult searchResult : hits) {
+                MilvusResult<T> tMilvusResult = new MilvusResult<>();
+                tMilvusResult.setId(searchResult.getId());
+                tMilvusResult.setDistance(searchResult.getScore());
+                tMilvusResult.setEntityLoader(loader(binder, searchResult.getEntity()));
+                results.add(tMilvusResult);
+            }
+            return results;
+        }
+        // 由转换执行器按阈值决定是否并行，结果保持排名顺序
+        return ConversionExecutors.get().map(hits, searchResult -> {
+            // 按解码计划将实体Map直接填充为Java实体类T
+            T entity = binder.bind(searchResult.getEntity());
+            MilvusResult<T> tMilvusResult = new MilvusResult<>();
+            tMilvusResult.setId(searchResult.getId());
+            tMilvusResult.setDistance(searchResult.getScore());
+            tMilvusResult.setEntity(entity);
+            return tMilvusResult;
+        });
+    }
+
+    /**
+     * 复制检索响应中转换用到的部分（主键、得分、深拷贝的行），用于转换缓存或共享的响应。
+     */
+    public static SearchResp copyOf(SearchResp searchResp) {
+        List<List<SearchResp.SearchResult>> groups = Optional.ofNullable(searchResp.getSearchResults()).orElseGet(ArrayList::new);
+        List<List<SearchResp.SearchResult>> copies = new ArrayList<>(groups.size());
+        for (List<SearchResp.SearchResult> group : groups) {
+            List<SearchResp.SearchResult> copy = new ArrayList<>(group.size());
+            for (SearchResp.SearchResult hit : group) {
+                copy.add(SearchResp.SearchResult.builder()
+                        .id(hit.getId())
+                        .score(hit.getScore())
+                        .entity(RowCopyUtil.copy(hit.getEntity()))
+                        .build());
+            }
+            copies.add(copy);
+        }
+        SearchResp resp = SearchResp.builder().build();
+        resp.setSearchResults(copies);
+        return resp;
+    }
+
+    /**
+     * 复制查询响应（深拷贝各行），用于转换缓存或共享的响应。
+     */
+    public static QueryResp copyOf(QueryResp queryResp) {
+        List<QueryResp.QueryResult> rows = Optional.ofNullable(queryResp.getQueryResults()).orElseGet(ArrayList::new);
+        List<QueryResp.QueryResult> copies = new ArrayList<>(rows.size());
+        for (QueryResp.QueryResult row : rows) {
+            copies.add(QueryResp.QueryResult.builder().entity(RowCopyUtil.copy(row.getEntity())).build());
+        }
+        QueryResp resp = QueryResp.builder().build();
+        resp.setQueryResults(copies);
+        return resp;
+    }
+
     /**
      * 将Get响应转换为Milvus响应的通用方法。
      * @param getResp Get操作的响应对象，可以是QueryResp或GetResp类型。
@@ -70,9 +167,23 @@ public class SearchRespConverter {
      * @return 返回一个包含Milvus结果列表的MilvusResp对象。
      */
     public static <T> MilvusResp<List<MilvusResult<T>>> convertGetRespToMilvusResp(QueryResp getResp, Class<T> entityType) {
+        return convertGetRespToMilvusResp(getResp, entityType, false);
+    }
+
+    /**
+     * 同 {@link #convertGetRespToMilvusResp(QueryResp, Class)}，lazy 为 true 时实体在首次访问时解码。
+     */
+    public static <T> MilvusResp<List<MilvusResult<T>>> convertGetRespToMilvusResp(QueryResp getResp, Class<T> entityType, boolean lazy) {
+        return convertGetRespToMilvusResp(getResp, binder(entityType), lazy);
+    }
+
+    /**
+     * 使用指定绑定器转换查询结果（投影类使用）。
+     */
+    public static <T> MilvusResp<List<MilvusResult<T>>> convertGetRespToMilvusResp(QueryResp getResp, EntityBinder<T> binder, boolean lazy) {
         // 从QueryResp中提取查询结果
         List<QueryResp.QueryResult> queryResults = getResp.getQueryResults();
-        return convertQuery(queryResults, entityType);
+        return convertQuery(queryResults, binder, lazy);
     }
     public static MilvusResp<Long> convertGetRespToCount(QueryResp getResp) {
         // 从QueryResp中提取查询结果
@@ -87,9 +198,16 @@ public class SearchRespConverter {
      * @return 返回一个包含Milvus结果列表的MilvusResp对象。
      */
     public static <T> MilvusResp<List<MilvusResult<T>>> convertGetRespToMilvusResp(GetResp getResp, Class<T> entityType) {
+        return convertGetRespToMilvusResp(getResp, entityType, false);
+    }
+
+    /**
+     * 同 {@link #convertGetRespToMilvusResp(GetResp, Class)}，lazy 为 true 时实体在首次访问时解码。
+     */
+    public static <T> MilvusResp<List<MilvusResult<T>>> convertGetRespToMilvusResp(GetResp getResp, Class<T> entityType, boolean lazy) {
         // 从GetResp中提取结果
         List<QueryResp.QueryResult> getResults = getResp.getGetResults();
-        return convertQuery(getResults, entityType);
+        return convertQuery(getResults, binder(entityType), lazy);
     }
 
 
@@ -97,32 +215,26 @@ public class SearchRespConverter {
      * 将查询结果转换为指定类型的实体列表。
      *
      * @param getResults 查询结果列表，来自Milvus数据库的查询响应。
-     * @param entityType 需要转换成的实体类型，指定了转换的目标。
+     * @param binder 实体绑定器，用于将查询结果映射到Java实体
+     * @param lazy 是否延迟解码实体
      * @return MilvusResp对象，包含转换后的实体列表。每个实体都包装在一个MilvusResult对象中，同时设置成功状态为true。
      */
-    private static <T> MilvusResp<List<MilvusResult<T>>> convertQuery(List<QueryResp.QueryResult> getResults, Class<T> entityType){
-        // 初始化转换缓存和属性缓存，用于帮助将查询结果映射到Java实体
-        ConversionCache conversionCache = MilvusCache.milvusCache.get(entityType.getName());
-        PropertyCache propertyCache = conversionCache.getPropertyCache();
-        List<T> entities = new ArrayList<>();
-
-        // 遍历每个查询结果，映射到对应的Java实体
-        for (QueryResp.QueryResult queryResult : getResults) {
-            Map<String, Object> entityMap = queryResult.getEntity();
-            Map<String, Object> entityMap2=new HashMap<>();
-            // 通过属性缓存转换键名，以适应Java实体的字段命名
-            for (Map.Entry<String, Object> entry : entityMap.entrySet()) {
-                String key = propertyCache.findKeyByValue(entry.getKey());
-                if(key!=null){
-                    Object value = entry.getValue();
-                    entityMap2.put(key,value);
-                }
+    private static <T> MilvusResp<List<MilvusResult<T>>> convertQuery(List<QueryResp.QueryResult> getResults, EntityBinder<T> binder, boolean lazy){
+        if (lazy) {
+            List<MilvusResult<T>> results = new ArrayList<>(getResults.size());
+            for (QueryResp.QueryResult queryResult : getResults) {
+                MilvusResult<T> vo = new MilvusResult<>();
+                vo.setEntityLoader(loader(binder, queryResult.getEntity()));
+                vo.setDistance(0.0f);
+                results.add(vo);
             }
-            // 使用转换工具将映射后的Map转换为指定类型的实体
-            T entity =  GsonUtil.convertMapToType(entityMap2, entityType);
-
-            entities.add(entity);
+            MilvusResp<List<MilvusResult<T>>> milvusResp = new MilvusResp<>();
+            milvusResp.setData(results);
+            milvusResp.setSuccess(true);
+            return milvusResp;
         }
+        // 遍历每个查询结果，映射到对应的Java实体；按解码计划直接填充，无法直接转换时由绑定器退回 Gson
+        List<T> entities = ConversionExecutors.get().map(getResults, queryResult -> binder.bind(queryResult.getEntity()));
 
         // 将转换后的实体列表包装成MilvusResult对象，并收集到一个新的列表中
         List<MilvusResult<T>> results = entities.stream().map(v -> {
@@ -138,6 +250,33 @@ public class SearchRespConverter {
         milvusResp.setSuccess(true);
         return milvusResp;
     }
+    /**
+     * 延迟解码的实体加载器，仅持有原始行与绑定器。
+     */
+    private static <T> Supplier<T> loader(EntityBinder<T> binder, Map<String, Object> row) {
+        return () -> binder.bind(row);
+    }
+
+    /**
+     * 获取实体绑定器；缓存中缺失（手工组装的缓存）时按属性缓存现场构建。
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityBinder<T> binder(Class<T> entityType) {
+        ConversionCache conversionCache = MilvusCache.milvusCache.get(entityType.getName());
+        EntityBinder<?> binder = conversionCache.getEntityBinder();
+        if (binder == null) {
+            DecodePlan decodePlan = conversionCache.getDecodePlan();
+            if (decodePlan == null) {
+                PropertyCache propertyCache = conversionCache.getPropertyCache();
+                decodePlan = DecodePlan.of(propertyCache);
+                conversionCache.setDecodePlan(decodePlan);
+            }
+            binder = EntityBinder.of(entityType, decodePlan);
+            conversionCache.setEntityBinder(binder);
+        }
+        return (EntityBinder<T>) binder;
+    }
+
     private static MilvusResp<Long> convertQueryCount(List<QueryResp.QueryResult> getResults){
         // 初始化转换缓存和属性缓存，用于帮助将查询结果映射到Java实体
         Long total= 0L;
@@ -0,0 +1,199 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 实体属性访问器工厂：公共 getter/setter 通过 LambdaMetafactory 生成调用点，
+ * 其余属性使用字段的 MethodHandle，均在构建绑定器/编码器时生成一次。
+ *
+ * @author xgc
+ **/
+final class Accessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Accessors() {
+    }
+
+    static <T> Supplier<T> constructor(Class<T> entityType) throws ReflectiveOperationException {
+        if (entityType.isInterface() || Modifier.isAbstract(entityType.getModifiers())
+                || (entityType.getEnclosingClass() != null && !Modifier.isStatic(entityType.getModifiers()))) {
+            throw new NoSuchMethodException(entityType.getName() + ".<init>()");
+        }
+        Constructor<T> ctor = entityType.getDeclaredConstructor();
+        ctor.setAccessible(true);
+        MethodHandle handle = LOOKUP.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                @SuppressWarnings("unchecked")
+                T instance = (T) handle.invokeExact();
+                return instance;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    static BiConsumer<Object, Object> setter(Class<?> entityType, Field field) throws IllegalAccessException {
+        Method method = findSetter(entityType, field);
+        if (method != null) {
+            BiConsumer<Object, Object> lambda = lambdaSetter(method);
+            if (lambda != null) {
+                return lambda;
+            }
+        }
+        field.setAccessible(true);
+        MethodHandle handle = LOOKUP.unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * 为公共 setter 生成 BiConsumer 调用点；类加载器不可见等情况下返回 null，改用字段句柄。
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> lambdaSetter(Method method) {
+        try {
+            MethodHandle impl = LOOKUP.unreflect(method);
+            Class<?> parameter = TypeCoercers.wrap(method.getParameterTypes()[0]);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    impl,
+                    MethodType.methodType(void.class, method.getDeclaringClass(), parameter));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Method findSetter(Class<?> entityType, Field field) {
+        if (!Modifier.isPublic(entityType.getModifiers())) {
+            return null;
+        }
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method method = publicMethod(entityType, "set" + suffix, field.getType());
+        if (method == null && field.getType() == boolean.class && name.length() > 2
+                && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            // Lombok 对 boolean isXxx 生成 setXxx
+            method = publicMethod(entityType, "set" + name.substring(2), field.getType());
+        }
+        return method;
+    }
+
+    private static Method publicMethod(Class<?> type, String name, Class<?>... parameters) {
+        try {
+            Method method = type.getMethod(name, parameters);
+            return Modifier.isStatic(method.getModifiers())
+                    || !Modifier.isPublic(method.getDeclaringClass().getModifiers()) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    static Function<Object, Object> getter(Class<?> entityType, Field field) throws IllegalAccessException {
+        Method method = findGetter(entityType, field);
+        if (method != null) {
+            Function<Object, Object> lambda = lambdaGetter(method);
+            if (lambda != null) {
+                return lambda;
+            }
+        }
+        field.setAccessible(true);
+        MethodHandle handle = LOOKUP.unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return target -> {
+            try {
+                return handle.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * 为公共 getter 生成 Function 调用点；类加载器不可见等情况下返回 null，改用字段句柄。
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambdaGetter(Method method) {
+        try {
+            MethodHandle impl = LOOKUP.unreflect(method);
+            Class<?> returnType = TypeCoercers.wrap(method.getReturnType());
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    impl,
+                    MethodType.methodType(returnType, method.getDeclaringClass()));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Method findGetter(Class<?> entityType, Field field) {
+        if (!Modifier.isPublic(entityType.getModifiers())) {
+            return null;
+        }
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method method = publicMethod(entityType, "get" + suffix);
+        if (method == null && field.getType() == boolean.class) {
+            // Lombok 对 boolean xxx 生成 isXxx，对 boolean isXxx 保留原名
+            boolean prefixed = name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+            method = publicMethod(entityType, prefixed ? name : "is" + suffix);
+        }
+        return method != null && method.getReturnType() == field.getType() ? method : null;
+    }
+
+    /**
+     * 按子类到父类的顺序列出实例字段（跳过 static 与编译器生成的字段），同名字段以子类为准。
+     */
+    static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !names.add(field.getName())) {
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
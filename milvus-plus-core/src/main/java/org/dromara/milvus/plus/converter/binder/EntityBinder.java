@@ -0,0 +1,131 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.converter.DecodePlan;
+import org.dromara.milvus.plus.util.GsonUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 实体绑定器：按 {@link DecodePlan} 将 SDK 返回的行数据直接填充到实体对象，每个实体类构建一次并缓存在
+ * {@link org.dromara.milvus.plus.cache.ConversionCache} 中。
+ * <p>
+ * 属性写入见 {@link Accessors}；实体无法直接构造或某行取值无法转换时，退回 Map→JSON→实体 的 Gson 转换。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public final class EntityBinder<T> {
+
+    private final Class<T> entityType;
+    private final DecodePlan decodePlan;
+    private final Supplier<T> constructor;
+    private final String[] columns;
+    private final BiConsumer<Object, Object>[] setters;
+    private final TypeCoercer[] coercers;
+    private final boolean[] primitives;
+
+    private EntityBinder(Class<T> entityType, DecodePlan decodePlan, Supplier<T> constructor, String[] columns,
+                         BiConsumer<Object, Object>[] setters, TypeCoercer[] coercers, boolean[] primitives) {
+        this.entityType = entityType;
+        this.decodePlan = decodePlan;
+        this.constructor = constructor;
+        this.columns = columns;
+        this.setters = setters;
+        this.coercers = coercers;
+        this.primitives = primitives;
+    }
+
+    /**
+     * 为实体类构建绑定器；无法直接绑定时返回仅走 Gson 的绑定器。
+     *
+     * @param entityType 实体类
+     * @param decodePlan 解码计划
+     * @return 绑定器
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityBinder<T> of(Class<T> entityType, DecodePlan decodePlan) {
+        try {
+            Supplier<T> constructor = Accessors.constructor(entityType);
+            int size = decodePlan.size();
+            String[] columns = new String[size];
+            BiConsumer<Object, Object>[] setters = new BiConsumer[size];
+            TypeCoercer[] coercers = new TypeCoercer[size];
+            boolean[] primitives = new boolean[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                Field field = Accessors.findField(entityType, decodePlan.property(i));
+                if (field == null || Modifier.isTransient(field.getModifiers())) {
+                    // 动态字段（$meta）、transient 属性与 Gson 行为一致直接忽略
+                    continue;
+                }
+                columns[n] = decodePlan.column(i);
+                setters[n] = Accessors.setter(entityType, field);
+                coercers[n] = TypeCoercers.forType(field.getGenericType());
+                primitives[n] = field.getType().isPrimitive();
+                n++;
+            }
+            if (n < size) {
+                String[] c = new String[n];
+                BiConsumer<Object, Object>[] s = new BiConsumer[n];
+                TypeCoercer[] t = new TypeCoercer[n];
+                boolean[] p = new boolean[n];
+                System.arraycopy(columns, 0, c, 0, n);
+                System.arraycopy(setters, 0, s, 0, n);
+                System.arraycopy(coercers, 0, t, 0, n);
+                System.arraycopy(primitives, 0, p, 0, n);
+                columns = c;
+                setters = s;
+                coercers = t;
+                primitives = p;
+            }
+            return new EntityBinder<>(entityType, decodePlan, constructor, columns, setters, coercers, primitives);
+        } catch (Throwable e) {
+            log.debug("Entity binder unavailable for {}, falling back to Gson: {}", entityType.getName(), e.toString());
+            return new EntityBinder<>(entityType, decodePlan, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * 是否可以直接绑定（否则全部走 Gson）。
+     */
+    public boolean isDirect() {
+        return constructor != null;
+    }
+
+    /**
+     * 将一行集合数据（集合属性名称->值）转换为实体对象。
+     *
+     * @param row SDK 返回的行数据
+     * @return 实体对象
+     */
+    public T bind(Map<String, Object> row) {
+        if (constructor == null || row == null) {
+            return fallback(row);
+        }
+        T entity = constructor.get();
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                Object value = row.get(columns[i]);
+                if (value != null) {
+                    setters[i].accept(entity, coercers[i].coerce(value));
+                } else if (!primitives[i] && row.containsKey(columns[i])) {
+                    // 显式 null 覆盖属性默认值，与 Gson 一致
+                    setters[i].accept(entity, null);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 个别取值超出内置转换能力时，整行交给 Gson 处理，保持原有兼容性
+            return fallback(row);
+        }
+        return entity;
+    }
+
+    private T fallback(Map<String, Object> row) {
+        return GsonUtil.convertMapToType(decodePlan.remap(row), entityType);
+    }
+}
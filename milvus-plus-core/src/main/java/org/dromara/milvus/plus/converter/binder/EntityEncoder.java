@@ -0,0 +1,139 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.id.IdGenerators;
+import org.dromara.milvus.plus.util.FloatVectorUtil;
+import org.dromara.milvus.plus.util.GsonUtil;
+
+import java.lang.reflect.Field;
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 实体编码器：将实体对象直接写为 insert/upsert 使用的 {@link JsonObject} 行，每个实体类构建一次并缓存在
+ * {@link org.dromara.milvus.plus.cache.ConversionCache} 中。
+ * <p>
+ * 每个属性预先确定取值方式、目标集合属性名称与写入方式，编码时不再反射遍历字段、也不再构建中间 Map。
+ *
+ * @author xgc
+ **/
+public final class EntityEncoder<T> {
+
+    /**
+     * 单列写入方式。
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(JsonObject row, String column, Object value);
+    }
+
+    private static final ColumnWriter DEFAULT_WRITER = GsonUtil::put;
+
+    private final Function<Object, Object>[] getters;
+    /**
+     * 集合属性名称；未映射的属性为 null，仅作为动态字段写入
+     */
+    private final String[] columns;
+    private final String[] names;
+    private final ColumnWriter[] writers;
+    private final boolean enableDynamicField;
+    private final boolean autoID;
+
+    private EntityEncoder(Function<Object, Object>[] getters, String[] columns, String[] names,
+                          ColumnWriter[] writers, boolean enableDynamicField, boolean autoID) {
+        this.getters = getters;
+        this.columns = columns;
+        this.names = names;
+        this.writers = writers;
+        this.enableDynamicField = enableDynamicField;
+        this.autoID = autoID;
+    }
+
+    /**
+     * 为实体类构建编码器。
+     *
+     * @param entityType         实体类
+     * @param propertyCache      属性缓存
+     * @param enableDynamicField 是否开启动态字段
+     * @param autoID             主键是否由客户端生成
+     * @return 编码器
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityEncoder<T> of(Class<T> entityType, PropertyCache propertyCache,
+                                          boolean enableDynamicField, boolean autoID) {
+        List<Field> fields = Accessors.instanceFields(entityType);
+        int size = fields.size();
+        Function<Object, Object>[] getters = new Function[size];
+        String[] columns = new String[size];
+        String[] names = new String[size];
+        ColumnWriter[] writers = new ColumnWriter[size];
+        for (int i = 0; i < size; i++) {
+            Field field = fields.get(i);
+            try {
+                getters[i] = Accessors.getter(entityType, field);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Error accessing field", e);
+            }
+            String column = propertyCache.functionToPropertyMap.get(field.getName());
+            columns[i] = StringUtils.isNotEmpty(column) ? column : null;
+            names[i] = field.getName();
+            writers[i] = writer(field.getType());
+        }
+        return new EntityEncoder<>(getters, columns, names, writers, enableDynamicField, autoID);
+    }
+
+    /**
+     * 编码 insert 行：已映射属性 + 动态字段（开启时）+ 客户端生成的主键（autoID 时）。
+     *
+     * @param entity     实体
+     * @param primaryKey 主键集合属性名称
+     * @return 行数据
+     */
+    public JsonObject encodeInsert(T entity, String primaryKey) {
+        JsonObject row = encode(entity, enableDynamicField);
+        if (autoID && StringUtils.isNotEmpty(primaryKey)) {
+            GsonUtil.put(row, primaryKey, IdGenerators.nextId());
+        }
+        return row;
+    }
+
+    /**
+     * 编码 upsert 行：仅包含已映射的非 null 属性。
+     *
+     * @param entity 实体
+     * @return 行数据
+     */
+    public JsonObject encodeUpdate(T entity) {
+        return encode(entity, false);
+    }
+
+    private JsonObject encode(T entity, boolean dynamic) {
+        JsonObject row = new JsonObject();
+        for (int i = 0; i < getters.length; i++) {
+            String column = columns[i];
+            if (column == null && !dynamic) {
+                continue;
+            }
+            Object value = getters[i].apply(entity);
+            if (value == null) {
+                continue;
+            }
+            writers[i].write(row, column != null ? column : names[i], value);
+        }
+        return row;
+    }
+
+    private static ColumnWriter writer(Class<?> type) {
+        // 向量直接从原始 float 写入 JsonArray，不经过 List<Float>
+        if (type == float[].class) {
+            return (row, column, value) -> row.add(column, FloatVectorUtil.toJsonArray((float[]) value));
+        }
+        if (type == FloatBuffer.class) {
+            return (row, column, value) -> row.add(column, FloatVectorUtil.toJsonArray((FloatBuffer) value));
+        }
+        return DEFAULT_WRITER;
+    }
+}
@@ -0,0 +1,86 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.annotation.MilvusField;
+import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.converter.DecodePlan;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 投影：实体集合上的轻量 DTO 视图，按投影类的属性决定输出字段，并将行直接绑定为投影对象。
+ * <p>
+ * 属性对应的集合属性名称依次取：投影属性上的 {@link MilvusField#name()}、实体中同名属性映射的集合属性名称、属性名本身。
+ * 每个（实体类, 投影类）构建一次，缓存在 {@link org.dromara.milvus.plus.cache.ConversionCache} 中。
+ *
+ * @author xgc
+ **/
+public final class Projection<P> {
+
+    private final Class<P> projectionType;
+    private final List<String> outputFields;
+    private final EntityBinder<P> binder;
+
+    private Projection(Class<P> projectionType, List<String> outputFields, EntityBinder<P> binder) {
+        this.projectionType = projectionType;
+        this.outputFields = outputFields;
+        this.binder = binder;
+    }
+
+    /**
+     * 为投影类构建投影。
+     *
+     * @param projectionType 投影类
+     * @param propertyCache  实体的属性缓存，用于解析与实体同名的属性
+     * @return 投影
+     */
+    public static <P> Projection<P> of(Class<P> projectionType, PropertyCache propertyCache) {
+        List<String> columns = new ArrayList<>();
+        List<String> properties = new ArrayList<>();
+        for (Field field : Accessors.instanceFields(projectionType)) {
+            if (Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            columns.add(column(field, propertyCache));
+            properties.add(field.getName());
+        }
+        if (columns.isEmpty()) {
+            throw MilvusPlusException.of("PROJECTION_EMPTY", "Projection " + projectionType.getName() + " has no fields");
+        }
+        Set<String> outputFields = new LinkedHashSet<>(columns);
+        DecodePlan decodePlan = DecodePlan.of(columns.toArray(new String[0]), properties.toArray(new String[0]));
+        return new Projection<>(projectionType, Collections.unmodifiableList(new ArrayList<>(outputFields)),
+                EntityBinder.of(projectionType, decodePlan));
+    }
+
+    private static String column(Field field, PropertyCache propertyCache) {
+        MilvusField milvusField = field.getAnnotation(MilvusField.class);
+        if (milvusField != null && StringUtils.isNotEmpty(milvusField.name())) {
+            return milvusField.name();
+        }
+        String column = propertyCache == null ? null : propertyCache.functionToPropertyMap.get(field.getName());
+        return StringUtils.isNotEmpty(column) ? column : field.getName();
+    }
+
+    public Class<P> getProjectionType() {
+        return projectionType;
+    }
+
+    /**
+     * 查询时请求的输出字段（去重，保持属性顺序）
+     */
+    public List<String> getOutputFields() {
+        return outputFields;
+    }
+
+    public EntityBinder<P> getBinder() {
+        return binder;
+    }
+}
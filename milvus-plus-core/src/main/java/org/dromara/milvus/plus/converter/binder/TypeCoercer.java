@@ -0,0 +1,20 @@
+package org.dromara.milvus.plus.converter.binder;
+
+/**
+ * 类型转换器：将 SDK 返回的原始值转换为实体属性的目标类型。
+ * <p>
+ * 无法转换时抛出 {@link IllegalArgumentException}，由调用方退回 Gson 转换。
+ *
+ * @author xgc
+ **/
+@FunctionalInterface
+public interface TypeCoercer {
+
+    /**
+     * 转换取值。
+     *
+     * @param value 非 null 的原始值
+     * @return 目标类型的值
+     */
+    Object coerce(Object value);
+}
@@ -0,0 +1,363 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.reflect.TypeToken;
+import org.dromara.milvus.plus.util.FloatVectorUtil;
+import org.dromara.milvus.plus.util.GsonUtil;
+
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.FloatBuffer;
+import java.util.*;
+
+/**
+ * 常用类型转换器：数值、布尔、字符串、Date、枚举、JSON、数组、集合与浮点向量。
+ * <p>
+ * 转换规则与 {@link GsonUtil} 保持一致（例如 Date 使用毫秒时间戳），其余类型退回 Gson 的 JsonElement 转换，
+ * 不再经过 JSON 字符串。
+ *
+ * @author xgc
+ **/
+public final class TypeCoercers {
+
+    private static final TypeCoercer IDENTITY = value -> value;
+
+    private TypeCoercers() {
+    }
+
+    /**
+     * 根据实体属性的泛型类型构建转换器。
+     *
+     * @param type 属性类型（{@link Field#getGenericType()}）
+     * @return 转换器
+     */
+    public static TypeCoercer forType(Type type) {
+        Class<?> raw = rawType(type);
+        if (raw == null) {
+            return gson(type);
+        }
+        if (raw.isPrimitive()) {
+            raw = wrap(raw);
+        }
+        if (raw == Object.class) {
+            return IDENTITY;
+        }
+        if (raw == String.class) {
+            return TypeCoercers::toStringValue;
+        }
+        if (raw == Boolean.class) {
+            return TypeCoercers::toBoolean;
+        }
+        if (raw == Character.class) {
+            return TypeCoercers::toCharacter;
+        }
+        if (Number.class.isAssignableFrom(raw)) {
+            return number(raw);
+        }
+        if (raw == Date.class) {
+            return TypeCoercers::toDate;
+        }
+        if (raw.isEnum()) {
+            return enumeration(raw);
+        }
+        if (JsonElement.class.isAssignableFrom(raw)) {
+            return jsonElement(raw);
+        }
+        if (raw == float[].class) {
+            return TypeCoercers::toFloatArray;
+        }
+        if (raw == FloatBuffer.class) {
+            return value -> value instanceof FloatBuffer ? value : FloatBuffer.wrap(toFloatArray(value));
+        }
+        if (raw.isArray()) {
+            return array(raw.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(raw)
+                && (raw.isAssignableFrom(ArrayList.class) || raw.isAssignableFrom(LinkedHashSet.class))) {
+            return collection(raw, elementType(type));
+        }
+        return object(raw, type);
+    }
+
+    private static Object toStringValue(Object value) {
+        if (value instanceof String) {
+            return value;
+        }
+        if (value instanceof JsonElement) {
+            JsonElement element = (JsonElement) value;
+            return element.isJsonPrimitive() ? element.getAsString() : element.toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return String.valueOf(value);
+        }
+        throw unsupported(value, String.class);
+    }
+
+    private static Object toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof String) {
+            return Boolean.valueOf((String) value);
+        }
+        if (value instanceof JsonPrimitive && ((JsonPrimitive) value).isBoolean()) {
+            return ((JsonPrimitive) value).getAsBoolean();
+        }
+        throw unsupported(value, Boolean.class);
+    }
+
+    private static Object toCharacter(Object value) {
+        if (value instanceof Character) {
+            return value;
+        }
+        if (value instanceof String && ((String) value).length() == 1) {
+            return ((String) value).charAt(0);
+        }
+        throw unsupported(value, Character.class);
+    }
+
+    private static Object toDate(Object value) {
+        if (value instanceof Date) {
+            return value;
+        }
+        return new Date(toNumber(value, Date.class).longValue());
+    }
+
+    private static TypeCoercer number(Class<?> target) {
+        if (target == Integer.class) {
+            return value -> value instanceof Integer ? value : toNumber(value, target).intValue();
+        }
+        if (target == Long.class) {
+            return value -> value instanceof Long ? value : toNumber(value, target).longValue();
+        }
+        if (target == Float.class) {
+            return value -> value instanceof Float ? value : toNumber(value, target).floatValue();
+        }
+        if (target == Double.class) {
+            return value -> value instanceof Double ? value : toNumber(value, target).doubleValue();
+        }
+        if (target == Short.class) {
+            return value -> value instanceof Short ? value : toNumber(value, target).shortValue();
+        }
+        if (target == Byte.class) {
+            return value -> value instanceof Byte ? value : toNumber(value, target).byteValue();
+        }
+        if (target == BigDecimal.class) {
+            return value -> value instanceof BigDecimal ? value : new BigDecimal(toNumber(value, target).toString());
+        }
+        if (target == BigInteger.class) {
+            return value -> value instanceof BigInteger ? value : new BigDecimal(toNumber(value, target).toString()).toBigInteger();
+        }
+        return object(target, target);
+    }
+
+    private static Number toNumber(Object value, Class<?> target) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof JsonPrimitive && ((JsonPrimitive) value).isNumber()) {
+            return ((JsonPrimitive) value).getAsNumber();
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (NumberFormatException e) {
+                throw unsupported(value, target);
+            }
+        }
+        throw unsupported(value, target);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TypeCoercer enumeration(Class<?> target) {
+        return value -> {
+            if (target.isInstance(value)) {
+                return value;
+            }
+            if (value instanceof String) {
+                return Enum.valueOf((Class<Enum>) target, (String) value);
+            }
+            throw unsupported(value, target);
+        };
+    }
+
+    private static TypeCoercer jsonElement(Class<?> target) {
+        return value -> {
+            if (target.isInstance(value)) {
+                return value;
+            }
+            JsonElement element = GsonUtil.toJsonTree(value);
+            if (target.isInstance(element)) {
+                return element;
+            }
+            throw unsupported(value, target);
+        };
+    }
+
+    /**
+     * 浮点向量：SDK 返回 List&lt;Float&gt;，直接拆箱为 float[]。
+     */
+    static float[] toFloatArray(Object value) {
+        if (value instanceof float[]) {
+            return (float[]) value;
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            float[] result = new float[list.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = toNumber(list.get(i), float.class).floatValue();
+            }
+            return result;
+        }
+        if (value instanceof FloatBuffer) {
+            return FloatVectorUtil.toArray((FloatBuffer) value);
+        }
+        throw unsupported(value, float[].class);
+    }
+
+    private static TypeCoercer array(Class<?> componentType) {
+        TypeCoercer elementCoercer = forType(componentType);
+        return value -> {
+            if (value.getClass().isArray() && componentType.isAssignableFrom(value.getClass().getComponentType())) {
+                return value;
+            }
+            Collection<?> source = asCollection(value, componentType);
+            Object result = Array.newInstance(componentType, source.size());
+            int i = 0;
+            for (Object element : source) {
+                Object coerced = element == null ? null : elementCoercer.coerce(element);
+                if (coerced == null && componentType.isPrimitive()) {
+                    throw unsupported(value, result.getClass());
+                }
+                Array.set(result, i++, coerced);
+            }
+            return result;
+        };
+    }
+
+    private static TypeCoercer collection(Class<?> target, Type elementType) {
+        Class<?> elementRaw = rawType(elementType);
+        TypeCoercer elementCoercer = forType(elementType);
+        boolean list = target.isAssignableFrom(ArrayList.class);
+        return value -> {
+            if (value instanceof JsonElement) {
+                return GsonUtil.fromJsonTree((JsonElement) value, elementType == Object.class ? target : parameterized(target, elementType));
+            }
+            Collection<?> source = asCollection(value, target);
+            if (target.isInstance(value) && elementRaw != null && elementType instanceof Class && allInstances(source, elementRaw)) {
+                return value;
+            }
+            Collection<Object> result = list ? new ArrayList<>(source.size()) : new LinkedHashSet<>();
+            for (Object element : source) {
+                result.add(element == null ? null : elementCoercer.coerce(element));
+            }
+            return result;
+        };
+    }
+
+    private static TypeCoercer object(Class<?> raw, Type type) {
+        if (!(type instanceof Class) && !Map.class.isAssignableFrom(raw)) {
+            return gson(type);
+        }
+        TypeCoercer fallback = gson(type);
+        return value -> raw.isInstance(value) ? value : fallback.coerce(value);
+    }
+
+    /**
+     * Gson 兜底：直接在 JsonElement 上转换，不经过字符串。
+     */
+    private static TypeCoercer gson(Type type) {
+        return value -> {
+            JsonElement element = value instanceof JsonElement ? (JsonElement) value : GsonUtil.toJsonTree(value);
+            return GsonUtil.fromJsonTree(element, type);
+        };
+    }
+
+    private static boolean allInstances(Collection<?> source, Class<?> elementRaw) {
+        Class<?> boxed = elementRaw.isPrimitive() ? wrap(elementRaw) : elementRaw;
+        for (Object element : source) {
+            if (element != null && !boxed.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Collection<?> asCollection(Object value, Class<?> target) {
+        if (value instanceof Collection) {
+            return (Collection<?>) value;
+        }
+        if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(Array.get(value, i));
+            }
+            return list;
+        }
+        throw unsupported(value, target);
+    }
+
+    private static Type elementType(Type type) {
+        if (type instanceof ParameterizedType) {
+            Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+            if (args.length == 1) {
+                Type arg = args[0];
+                if (arg instanceof WildcardType) {
+                    Type[] upper = ((WildcardType) arg).getUpperBounds();
+                    return upper.length > 0 ? upper[0] : Object.class;
+                }
+                return arg;
+            }
+        }
+        return Object.class;
+    }
+
+    private static Type parameterized(Class<?> raw, Type argument) {
+        return TypeToken.getParameterized(raw, argument).getType();
+    }
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            Type raw = ((ParameterizedType) type).getRawType();
+            return raw instanceof Class ? (Class<?>) raw : null;
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return component == null ? null : Array.newInstance(component, 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            Type[] upper = ((WildcardType) type).getUpperBounds();
+            return upper.length > 0 ? rawType(upper[0]) : Object.class;
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? rawType(bounds[0]) : Object.class;
+        }
+        return null;
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == float.class) return Float.class;
+        if (type == double.class) return Double.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return type;
+    }
+
+    private static IllegalArgumentException unsupported(Object value, Class<?> target) {
+        return new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to " + target.getName());
+    }
+}
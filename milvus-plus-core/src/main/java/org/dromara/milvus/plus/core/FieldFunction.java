@@ -1,8 +1,6 @@
 package org.dromara.milvus.plus.core;
 
 import org.dromara.milvus.plus.annotation.MilvusField;
-import org.dromara.milvus.plus.cache.ConversionCache;
-import org.dromara.milvus.plus.cache.MilvusCache;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
@@ -29,13 +27,8 @@ public interface FieldFunction<T, R> extends Function<T, R>, Serializable {
      * @param toType 转换类型
      */
     default String getFieldName(FieldFunction<T, ?> fn, String split, int toType) {
-        SerializedLambda lambda = getSerializedLambda(fn);
-        String implClass = lambda.getImplClass().replace("/", ".");
-        String implMethodName = lambda.getImplMethodName();
-        ConversionCache conversionCache = MilvusCache.milvusCache.get(implClass);
-        String fieldName = conversionCache != null ?
-                conversionCache.getPropertyCache().methodToPropertyMap.get(implMethodName) :
-                extractFieldName(implClass, implMethodName);
+        // 按 lambda 类缓存解析结果，实体缓存变化时自动重新解析
+        String fieldName = FieldNameResolver.resolve(fn);
         if (StringUtils.isNotEmpty(fieldName)) {
             return fieldName;
         }
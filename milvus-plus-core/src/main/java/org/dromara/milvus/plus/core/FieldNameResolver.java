@@ -0,0 +1,83 @@
+package org.dromara.milvus.plus.core;
+
+import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.MilvusCache;
+
+import java.lang.invoke.SerializedLambda;
+
+/**
+ * FieldFunction 方法引用 → 集合属性名称 的解析缓存。
+ * <p>
+ * 以 lambda 生成类为键（{@link ClassValue}），每个方法引用只调用一次 writeReplace。
+ * 解析结果记录其来源 {@link ConversionCache}，{@link MilvusCache#evict(Class)} 或重新扫描实体后来源发生变化时重新解析。
+ *
+ * @author xgc
+ **/
+public final class FieldNameResolver {
+
+    private static final ClassValue<Slot> SLOTS = new ClassValue<Slot>() {
+        @Override
+        protected Slot computeValue(Class<?> type) {
+            return new Slot();
+        }
+    };
+
+    private FieldNameResolver() {
+    }
+
+    /**
+     * 解析方法引用对应的字段名称（未做分隔符/大小写转换）。
+     *
+     * @param fn 方法引用
+     * @return 字段名称
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static String resolve(FieldFunction fn) {
+        if (fn == null) {
+            throw new RuntimeException("传入的函数对象为null或没有writeReplace方法");
+        }
+        Slot slot = SLOTS.get(fn.getClass());
+        Resolution resolution = slot.resolution;
+        String implClass;
+        String implMethodName;
+        if (resolution != null) {
+            ConversionCache current = MilvusCache.milvusCache.get(resolution.implClass);
+            if (current == resolution.source) {
+                return resolution.fieldName;
+            }
+            implClass = resolution.implClass;
+            implMethodName = resolution.implMethodName;
+        } else {
+            SerializedLambda lambda = fn.getSerializedLambda(fn);
+            implClass = lambda.getImplClass().replace("/", ".");
+            implMethodName = lambda.getImplMethodName();
+        }
+        ConversionCache source = MilvusCache.milvusCache.get(implClass);
+        String fieldName = source != null ?
+                source.getPropertyCache().methodToPropertyMap.get(implMethodName) :
+                fn.extractFieldName(implClass, implMethodName);
+        slot.resolution = new Resolution(implClass, implMethodName, source, fieldName);
+        return fieldName;
+    }
+
+    private static final class Slot {
+        private volatile Resolution resolution;
+    }
+
+    private static final class Resolution {
+        private final String implClass;
+        private final String implMethodName;
+        /**
+         * 解析时所依据的实体缓存，为 null 表示按注解反射解析
+         */
+        private final ConversionCache source;
+        private final String fieldName;
+
+        private Resolution(String implClass, String implMethodName, ConversionCache source, String fieldName) {
+            this.implClass = implClass;
+            this.implMethodName = implMethodName;
+            this.source = source;
+            this.fieldName = fieldName;
+        }
+    }
+}
@@ -7,11 +7,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.MilvusCache;
 import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
 import org.dromara.milvus.plus.exception.MilvusPlusException;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 @EqualsAndHashCode(callSuper = true)
@@ -38,6 +41,17 @@ public abstract class AbstractChainWrapper<T> extends ConditionBuilder<T>{
     }
     // 定义最大重试次数的常量
     public static final int maxRetries = 2;
+    /**
+     * 异步操作超时（毫秒），小于 0 时使用全局配置 milvus.async-timeout-millis，0 表示不限
+     */
+    protected long asyncTimeoutMillis = -1L;
+
+    /**
+     * 在 {@link AsyncExecutors} 上执行同步操作；提交后不应再修改该构建器。
+     */
+    protected <R> CompletableFuture<R> async(Supplier<R> action) {
+        return AsyncExecutors.supply(action, asyncTimeoutMillis);
+    }
     protected <R> MilvusResp<R> executeWithRetry(Supplier<MilvusResp<R>> action, String errorMessage, int maxRetries,Class entityType, MilvusClientV2 client) {
         int attempt = 1;
         while (true) {
@@ -56,6 +70,36 @@ public abstract class AbstractChainWrapper<T> extends ConditionBuilder<T>{
             }
         }
     }
+    /**
+     * 获取实体编码器；缓存中缺失（手工组装的缓存）时按属性缓存现场构建。
+     */
+    @SuppressWarnings("unchecked")
+    protected EntityEncoder<T> entityEncoder(ConversionCache conversionCache, Class<T> entityType) {
+        EntityEncoder<?> encoder = conversionCache.getEntityEncoder();
+        if (encoder == null) {
+            boolean enableDynamicField = conversionCache.getMilvusEntity() != null
+                    && Boolean.TRUE.equals(conversionCache.getMilvusEntity().getEnableDynamicField());
+            encoder = EntityEncoder.of(entityType, conversionCache.getPropertyCache(), enableDynamicField, conversionCache.isAutoID());
+            conversionCache.setEntityEncoder(encoder);
+        }
+        return (EntityEncoder<T>) encoder;
+    }
+
+    /**
+     * 获取行大小估算器，首次使用时按集合结构构建。
+     */
+    protected RowSizeEstimator rowSizeEstimator(ConversionCache conversionCache) {
+        if (conversionCache == null) {
+            return RowSizeEstimator.of(null);
+        }
+        RowSizeEstimator estimator = conversionCache.getRowSizeEstimator();
+        if (estimator == null) {
+            estimator = RowSizeEstimator.of(conversionCache.getMilvusEntity());
+            conversionCache.setRowSizeEstimator(estimator);
+        }
+        return estimator;
+    }
+
     protected void handleCollectionNotLoaded(Class entityType, MilvusClientV2 client) {
         ConversionCache cache = MilvusCache.milvusCache.get(entityType.getName());
         if (cache == null || cache.getMilvusEntity() == null) {
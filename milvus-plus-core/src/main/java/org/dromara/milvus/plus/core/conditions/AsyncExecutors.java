@@ -0,0 +1,195 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 构建器异步接口（queryAsync / insertAsync 等）的执行器。
+ * <p>
+ * 默认在 JDK 21+ 使用虚拟线程（反射创建，源码保持 Java 8 兼容），否则使用守护线程池；
+ * 也可通过 {@link #set(Executor)} 替换为业务线程池。返回的 future 取消或超时时中断正在执行的 gRPC 调用，
+ * 尚未开始的任务不再执行。中断只作用于本调用方：若该线程正代表其他调用方发送请求（{@link SingleFlight}、
+ * {@link SearchMicroBatcher}），由此产生的失败不会传给它们，它们会各自重新发送。启动时按 {@link MilvusProperties} 配置。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public final class AsyncExecutors {
+
+    /**
+     * 无虚拟线程时默认平台线程数
+     */
+    public static final int DEFAULT_PLATFORM_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "milvus-plus-async-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile int threads;
+    private static volatile long timeoutMillis;
+    private static volatile Executor executor;
+    /**
+     * 由本类创建、重新配置时需要关闭的执行器
+     */
+    private static volatile ExecutorService owned;
+
+    private AsyncExecutors() {
+    }
+
+    public static void configure(MilvusProperties properties) {
+        timeoutMillis = Math.max(0L, properties.getAsyncTimeoutMillis());
+        synchronized (AsyncExecutors.class) {
+            threads = Math.max(0, properties.getAsyncThreads());
+            executor = null;
+            shutdownOwned();
+        }
+    }
+
+    /**
+     * 替换异步执行器，调用方负责其生命周期。
+     */
+    public static void set(Executor asyncExecutor) {
+        if (asyncExecutor == null) {
+            throw new IllegalArgumentException("asyncExecutor must not be null");
+        }
+        synchronized (AsyncExecutors.class) {
+            executor = asyncExecutor;
+            shutdownOwned();
+        }
+    }
+
+    /**
+     * 默认超时（毫秒），0 表示不限。
+     */
+    public static long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public static Executor get() {
+        Executor current = executor;
+        if (current == null) {
+            synchronized (AsyncExecutors.class) {
+                current = executor;
+                if (current == null) {
+                    ExecutorService created = threads > 0 ? null : virtualThreadExecutor();
+                    if (created == null) {
+                        created = platformExecutor(threads > 0 ? threads : DEFAULT_PLATFORM_THREADS);
+                    }
+                    owned = created;
+                    current = created;
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 异步执行。
+     *
+     * @param action        同步操作
+     * @param timeoutMillis 超时（毫秒），小于 0 时使用默认超时，0 表示不限；超时后 future 以 {@link TimeoutException} 结束
+     * @return 可取消的 future
+     */
+    public static <R> CompletableFuture<R> supply(Supplier<R> action, long timeoutMillis) {
+        Task<R> task = new Task<>();
+        Runnable body = () -> {
+            if (task.isDone()) {
+                return;
+            }
+            try {
+                task.complete(action.get());
+            } catch (Throwable e) {
+                task.completeExceptionally(e);
+            }
+        };
+        Executor current = get();
+        try {
+            if (current instanceof ExecutorService) {
+                task.attach(((ExecutorService) current).submit(body));
+            } else {
+                current.execute(body);
+            }
+        } catch (RejectedExecutionException e) {
+            task.completeExceptionally(MilvusPlusException.of("ASYNC_REJECTED", "Async executor rejected the request"));
+            return task;
+        }
+        long timeout = timeoutMillis < 0 ? AsyncExecutors.timeoutMillis : timeoutMillis;
+        if (timeout > 0 && !task.isDone()) {
+            ScheduledFuture<?> timer = TIMER.schedule(() -> {
+                if (task.completeExceptionally(new TimeoutException("Milvus request timed out after " + timeout + " ms"))) {
+                    task.interrupt();
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            task.whenComplete((r, e) -> timer.cancel(false));
+        }
+        return task;
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Virtual threads unavailable, using platform threads for async requests");
+            return null;
+        }
+    }
+
+    private static ExecutorService platformExecutor(int size) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "milvus-plus-async-" + THREAD_SEQ.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static void shutdownOwned() {
+        ExecutorService previous = owned;
+        owned = null;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * 取消时同时取消执行器中的任务（运行中则中断）。
+     */
+    private static final class Task<R> extends CompletableFuture<R> {
+
+        private volatile Future<?> running;
+
+        void attach(Future<?> future) {
+            running = future;
+            if (isCancelled()) {
+                future.cancel(true);
+            }
+        }
+
+        void interrupt() {
+            Future<?> future = running;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                interrupt();
+            }
+            return cancelled;
+        }
+    }
+}
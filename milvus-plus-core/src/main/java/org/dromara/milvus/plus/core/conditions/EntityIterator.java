@@ -0,0 +1,176 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.orm.iterator.QueryIterator;
+import io.milvus.response.QueryResultsWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.converter.binder.EntityBinder;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 基于 SDK {@link QueryIterator} 的实体迭代器，用于导出、重建索引等全量扫描。
+ * <p>
+ * 按批拉取并解码：调用方消费当前批时，下一批已在后台拉取与解码，内存中最多同时存在两批数据。
+ * 预取在有界的共享线程池中执行（{@link #PREFETCH_THREADS} 个线程），迭代器较多时预取排队而不是新建线程。
+ * 迭代结束时自动关闭；提前结束时需调用 {@link #close()}（{@link #stream()} 关闭时会一并关闭），关闭会取消预取。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class EntityIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * 预取线程数上限，超出时预取任务排队
+     */
+    public static final int PREFETCH_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+    /**
+     * 共享预取线程池：每个迭代器同一时刻最多占用一个任务，空闲线程自动回收
+     */
+    private static final ExecutorService PREFETCH = prefetchExecutor();
+
+    private final QueryIterator source;
+    private final EntityBinder<T> binder;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * 预取任务正在使用 source；关闭时由最后离开的一方关闭 source
+     */
+    private final AtomicBoolean fetching = new AtomicBoolean();
+    private final AtomicBoolean sourceClosed = new AtomicBoolean();
+    private volatile Future<List<T>> pending;
+    private List<T> current = Collections.emptyList();
+    private int position;
+    private boolean exhausted;
+
+    public EntityIterator(QueryIterator source, EntityBinder<T> binder) {
+        this.source = source;
+        this.binder = binder;
+        this.pending = fetch();
+    }
+
+    private static ExecutorService prefetchExecutor() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(PREFETCH_THREADS, PREFETCH_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "milvus-plus-prefetch-" + THREAD_SEQ.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private Future<List<T>> fetch() {
+        return PREFETCH.submit(() -> {
+            fetching.set(true);
+            try {
+                if (closed.get()) {
+                    return Collections.emptyList();
+                }
+                List<QueryResultsWrapper.RowRecord> rows = source.next();
+                List<T> batch = new ArrayList<>(rows.size());
+                for (QueryResultsWrapper.RowRecord row : rows) {
+                    if (closed.get()) {
+                        // 已关闭：不再解码剩余行
+                        return Collections.<T>emptyList();
+                    }
+                    batch.add(binder.bind(row.getFieldValues()));
+                }
+                return batch;
+            } finally {
+                fetching.set(false);
+                if (closed.get()) {
+                    closeSource();
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position >= current.size()) {
+            if (exhausted || closed.get()) {
+                return false;
+            }
+            List<T> batch = await(pending);
+            pending = null;
+            if (batch.isEmpty()) {
+                exhausted = true;
+                close();
+                return false;
+            }
+            current = batch;
+            position = 0;
+            // 当前批交给调用方后立即预取下一批
+            pending = fetch();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.get(position++);
+    }
+
+    /**
+     * 以顺序流的方式消费，流关闭时关闭迭代器并取消预取。
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 关闭迭代器：取消尚未开始的预取；进行中的预取在 SDK 调用返回后放弃解码并关闭 source（SDK 迭代器非线程安全）。
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        current = Collections.emptyList();
+        Future<List<T>> inFlight = pending;
+        if (inFlight != null) {
+            inFlight.cancel(false);
+        }
+        if (!fetching.get()) {
+            closeSource();
+        }
+    }
+
+    private void closeSource() {
+        if (!sourceClosed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (Exception e) {
+            log.warn("Failed to close query iterator: {}", e.toString());
+        }
+    }
+
+    private List<T> await(Future<List<T>> future) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            // 其他线程已关闭
+            return Collections.emptyList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw MilvusPlusException.of("QUERY_ITERATOR_INTERRUPTED", "Interrupted while fetching query iterator batch");
+        } catch (ExecutionException e) {
+            close();
+            throw MilvusPlusException.wrap(e.getCause());
+        }
+    }
+}
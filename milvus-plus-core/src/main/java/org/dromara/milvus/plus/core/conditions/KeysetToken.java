@@ -0,0 +1,81 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * 游标分页续页令牌：记录上一页最后的主键与查询条件指纹，编码为 URL 安全的 Base64 字符串。
+ * 指纹（SHA-256，见 {@link RequestFingerprint}）不一致（条件已变化）的令牌会被拒绝。
+ *
+ * @author xgc
+ **/
+final class KeysetToken {
+
+    private static final String VERSION = "v2";
+    private static final char SEPARATOR = '|';
+
+    private KeysetToken() {
+    }
+
+    static String encode(String fingerprint, Object lastPk) {
+        String type = lastPk instanceof Number ? "L" : "S";
+        String raw = VERSION + SEPARATOR + fingerprint + SEPARATOR + type + SEPARATOR + lastPk;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析令牌中的主键。
+     *
+     * @param token       续页令牌
+     * @param fingerprint 当前查询条件指纹
+     * @return 上一页最后的主键（Long 或 String）
+     */
+    static Object decode(String token, String fingerprint) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw MilvusPlusException.of("INVALID_PAGE_TOKEN", "Malformed continuation token");
+        }
+        // 主键值可能包含分隔符，只切前三段
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw MilvusPlusException.of("INVALID_PAGE_TOKEN", "Malformed continuation token");
+        }
+        if (!parts[1].equals(fingerprint)) {
+            throw MilvusPlusException.of("INVALID_PAGE_TOKEN", "Continuation token does not match the current query conditions");
+        }
+        if ("L".equals(parts[2])) {
+            try {
+                return Long.parseLong(parts[3]);
+            } catch (NumberFormatException e) {
+                throw MilvusPlusException.of("INVALID_PAGE_TOKEN", "Malformed continuation token");
+            }
+        }
+        return parts[3];
+    }
+
+    /**
+     * 查询条件指纹：集合、过滤条件、分区。
+     */
+    static String fingerprint(String collectionName, String filter, Collection<String> partitionNames) {
+        return RequestFingerprint.keyset(collectionName, filter, partitionNames);
+    }
+
+    /**
+     * 计数缓存键：完整过滤条件加排序后的分区，不做摘要，不同条件不会共用计数。
+     */
+    static String countKey(String filter, Collection<String> partitionNames) {
+        StringBuilder sb = new StringBuilder(filter == null ? "" : filter);
+        if (partitionNames != null) {
+            for (String partitionName : new TreeSet<>(partitionNames)) {
+                sb.append('\u0000').append(partitionName);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -9,15 +9,21 @@ import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.NearCaches;
+import org.dromara.milvus.plus.cache.ResultCaches;
 import org.dromara.milvus.plus.core.FieldFunction;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.util.GsonUtil;
+import org.dromara.milvus.plus.util.LogSanitizeUtil;
 
 import java.io.Serializable;
 import java.util.function.Consumer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
      * 构建器内部类，用于构建remove请求
@@ -32,6 +38,10 @@ public  class LambdaDeleteWrapper<T> extends AbstractChainWrapper<T> implements
     private String partitionName;
     private MilvusClientV2 client;
     private List<Object> ids=new ArrayList<>();
+    /**
+     * 单个删除请求的主键数
+     */
+    private static final int DELETE_ID_CHUNK = 5000;
 
     public LambdaDeleteWrapper(String collectionName, MilvusClientV2 client, ConversionCache conversionCache, Class<T> entityType) {
         this.collectionName = collectionName;
@@ -43,6 +53,14 @@ public  class LambdaDeleteWrapper<T> extends AbstractChainWrapper<T> implements
     public LambdaDeleteWrapper() {
 
     }
+    /**
+     * 异步操作（removeAsync 等）的超时，覆盖全局配置 milvus.async-timeout-millis；0 表示不限。
+     */
+    public LambdaDeleteWrapper<T> asyncTimeout(long timeout, TimeUnit unit) {
+        this.asyncTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     public LambdaDeleteWrapper<T> partition(String partitionName){
         this.partitionName=partitionName;
         return this;
@@ -723,7 +741,7 @@ public  class LambdaDeleteWrapper<T> extends AbstractChainWrapper<T> implements
      * 构建完整的删除请求
      * @return 搜索请求对象
      */
-    private DeleteReq build() {
+    private DeleteReq build(List<Object> chunkIds) {
         DeleteReq.DeleteReqBuilder builder = DeleteReq.builder()
                 .collectionName(this.collectionName);
         String filterStr = buildFilters();
@@ -733,23 +751,47 @@ public  class LambdaDeleteWrapper<T> extends AbstractChainWrapper<T> implements
         if(StringUtils.isNotEmpty(partitionName)){
             builder.partitionName(partitionName);
         }
-        if (!ids.isEmpty()) {
-            builder.ids(this.ids);
+        if (!chunkIds.isEmpty()) {
+            builder.ids(chunkIds);
         }
         // Set other parameters as needed
         return builder.build();
     }
 
     /**
-     * 执行搜索
-     * @return 搜索响应对象
+     * 执行删除；主键去重后超过 {@link #DELETE_ID_CHUNK} 个时分块并发删除，删除数合并返回。
+     * 任一块失败时在全部块结束后抛出异常，此时其余块可能已删除。
+     * @return 删除响应对象
      */
     public MilvusResp<DeleteResp> remove() throws MilvusException {
+        List<Object> uniqueIds = ids.isEmpty() ? ids : PrimaryKeys.distinct(ids);
+        if (uniqueIds.size() <= DELETE_ID_CHUNK) {
+            return removeChunk(uniqueIds);
+        }
+        List<List<Object>> chunks = PrimaryKeys.chunks(uniqueIds, DELETE_ID_CHUNK);
+        log.info("remove {} ids in {} requests", uniqueIds.size(), chunks.size());
+        long count = 0;
+        for (MilvusResp<DeleteResp> result : RequestSplitter.execute(chunks, this::removeChunk)) {
+            if (result.getData() != null) {
+                count += result.getData().getDeleteCnt();
+            }
+        }
+        DeleteResp merged = DeleteResp.builder().build();
+        merged.setDeleteCnt(count);
+        MilvusResp<DeleteResp> resp = new MilvusResp<>();
+        resp.setData(merged);
+        resp.setSuccess(true);
+        return resp;
+    }
+
+    private MilvusResp<DeleteResp> removeChunk(List<Object> chunkIds) {
         return executeWithRetry(
                 () -> {
-                    DeleteReq deleteReq = build();
-                    log.info("build remove param-->{}", GsonUtil.toJson(deleteReq));
+                    DeleteReq deleteReq = build(chunkIds);
+                    log.info("build remove param-->{}", LogSanitizeUtil.truncate(GsonUtil.toJson(deleteReq)));
                     DeleteResp delete = client.delete(deleteReq);
+                    ResultCaches.invalidate(collectionName);
+                    NearCaches.evictIds(collectionName, deleteReq.getIds());
                     MilvusResp<DeleteResp> resp = new MilvusResp<>();
                     resp.setData(delete);
                     resp.setSuccess(true);
@@ -767,6 +809,18 @@ public  class LambdaDeleteWrapper<T> extends AbstractChainWrapper<T> implements
         return remove();
     }
 
+    /**
+     * 异步执行 {@link #remove()}；超时或取消时已发送的块可能已删除。
+     */
+    public CompletableFuture<MilvusResp<DeleteResp>> removeAsync() {
+        return async(this::remove);
+    }
+
+    public CompletableFuture<MilvusResp<DeleteResp>> removeByIdAsync(Serializable... ids) {
+        this.id((Object[]) ids);
+        return removeAsync();
+    }
+
     @Override
     public void init(String collectionName, MilvusClientV2 client, ConversionCache conversionCache, Class<T> entityType) {
         setClient(client);
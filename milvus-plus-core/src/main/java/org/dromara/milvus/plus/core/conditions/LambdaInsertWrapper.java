@@ -12,13 +12,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
 import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.MilvusCache;
-import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.cache.NearCaches;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
 import org.dromara.milvus.plus.core.FieldFunction;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.util.GsonUtil;
-import org.dromara.milvus.plus.util.IdWorkerUtils;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
 * 构建器内部类，用于构建insert请求
@@ -27,6 +38,11 @@ import java.util.*;
 @Data
 @Slf4j
 public  class LambdaInsertWrapper<T> extends AbstractChainWrapper<T> implements Wrapper<LambdaInsertWrapper<T>,T>{
+    /**
+     * 流式写入默认每块行数
+     */
+    public static final int DEFAULT_STREAM_CHUNK_ROWS = 1000;
+
     private ConversionCache conversionCache;
     private Class<T> entityType;
     private String collectionName;
@@ -51,6 +67,14 @@ public  class LambdaInsertWrapper<T> extends AbstractChainWrapper<T> implements
         GsonUtil.put(this.entity,fieldName,value);
         return this;
     }
+    /**
+     * 异步操作（insertAsync）的超时，覆盖全局配置 milvus.async-timeout-millis；0 表示不限。
+     */
+    public LambdaInsertWrapper<T> asyncTimeout(long timeout, TimeUnit unit) {
+        this.asyncTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     public LambdaInsertWrapper<T> partition(String partitionName){
         this.partitionName=partitionName;
        return this;
@@ -72,7 +96,41 @@ public  class LambdaInsertWrapper<T> extends AbstractChainWrapper<T> implements
     }
 
 
+    /**
+     * 写入行数据；估算大小超出请求字节预算时拆分为多个请求并发发送，结果合并为一个响应。
+     */
     private MilvusResp<InsertResp> insert(List<JsonObject> jsonObjects){
+        List<List<JsonObject>> chunks = RequestSplitter.split(jsonObjects, rowSizeEstimator(conversionCache),
+                RequestSplitter.getMaxRequestBytes());
+        if (chunks.size() == 1) {
+            return insertChunk(jsonObjects);
+        }
+        log.info("insert {} rows in {} requests", jsonObjects.size(), chunks.size());
+        return merge(RequestSplitter.execute(chunks, this::insertChunk), jsonObjects.size());
+    }
+
+    private static MilvusResp<InsertResp> merge(List<MilvusResp<InsertResp>> results, int expectedRows) {
+        long count = 0;
+        List<Object> primaryKeys = new ArrayList<>(expectedRows);
+        for (MilvusResp<InsertResp> result : results) {
+            InsertResp data = result.getData();
+            if (data != null) {
+                count += data.getInsertCnt();
+                if (data.getPrimaryKeys() != null) {
+                    primaryKeys.addAll(data.getPrimaryKeys());
+                }
+            }
+        }
+        InsertResp merged = InsertResp.builder().build();
+        merged.setInsertCnt(count);
+        merged.setPrimaryKeys(primaryKeys);
+        MilvusResp<InsertResp> resp = new MilvusResp<>();
+        resp.setData(merged);
+        resp.setSuccess(true);
+        return resp;
+    }
+
+    private MilvusResp<InsertResp> insertChunk(List<JsonObject> jsonObjects){
         return executeWithRetry(
                 () -> {
                     log.info("insert data--->{}", org.dromara.milvus.plus.util.LogSanitizeUtil.truncate(jsonObjects));
@@ -85,6 +143,8 @@ public  class LambdaInsertWrapper<T> extends AbstractChainWrapper<T> implements
                     InsertReq insertReq = builder
                             .build();
                     InsertResp insert = client.insert(insertReq);
+                    ResultCaches.invalidate(collectionName);
+                    NearCaches.evictRows(collectionName, jsonObjects);
                     MilvusResp<InsertResp> resp = new MilvusResp<>();
                     resp.setData(insert);
                     resp.setSuccess(true);
@@ -101,36 +161,125 @@ public  class LambdaInsertWrapper<T> extends AbstractChainWrapper<T> implements
         Iterator<T> iterator = new ArrayIterator<>(entity);
         return insert(iterator);
     }
+    /**
+     * 异步执行 {@link #insert(Object[])}；超时或取消时已发送的块可能已写入。
+     */
+    @SafeVarargs
+    public final CompletableFuture<MilvusResp<InsertResp>> insertAsync(T... entity) {
+        return async(() -> insert(new ArrayIterator<>(entity)));
+    }
+
+    public CompletableFuture<MilvusResp<InsertResp>> insertAsync(Collection<T> entities) {
+        return async(() -> insert(entities.iterator()));
+    }
     public MilvusResp<InsertResp> insert(Iterator<T> iterator) throws MilvusException {
+        return insert(iterator, DEFAULT_STREAM_CHUNK_ROWS);
+    }
+
+    public MilvusResp<InsertResp> insert(Stream<T> stream) throws MilvusException {
+        return insert(stream.iterator(), DEFAULT_STREAM_CHUNK_ROWS);
+    }
+
+    /**
+     * 流式写入：按固定行数分块编码并发送，调用线程编码下一块时上一块在写入线程池中发送。
+     * <p>
+     * 同时进行中的请求数不超过写入并发数（milvus.write-parallelism），内存占用约为块大小 × 并发数，
+     * 不再将全部数据物化为一个列表。任一请求失败后停止读取，等待已发送的请求结束后抛出第一个异常（此前的块可能已写入）。
+     *
+     * @param iterator  实体迭代器
+     * @param chunkRows 每块行数
+     * @return 合并后的写入结果，覆盖全部块
+     */
+    public MilvusResp<InsertResp> insert(Iterator<T> iterator, int chunkRows) throws MilvusException {
+        if (chunkRows < 1) {
+            throw new IllegalArgumentException("chunkRows must be positive");
+        }
         ConversionCache conversionCache = MilvusCache.milvusCache.get(entityType.getName());
-        PropertyCache propertyCache = conversionCache.getPropertyCache();
+        // 编码器已确定每个属性的取值方式与目标列（含动态字段、autoID），逐行直接生成 JsonObject
+        EntityEncoder<T> encoder = entityEncoder(conversionCache, entityType);
         String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
-        List<JsonObject> jsonObjects=new ArrayList<>();
-        while (iterator.hasNext()) {
-            T t1 = iterator.next();
-            Map<String, Object> propertiesMap = getPropertiesMap(t1);
-            JsonObject jsonObject=new JsonObject();
-            for (Map.Entry<String, Object> entry : propertiesMap.entrySet()) {
-                String key = entry.getKey();
-                if (key == null) {
-                    continue;
-                }
-                Object value = entry.getValue();
-                String tk = propertyCache.functionToPropertyMap.get(key);
-                if (StringUtils.isNotEmpty(tk)) {
-                    GsonUtil.put(jsonObject, tk, value);
-                } else if (Boolean.TRUE.equals(conversionCache.getMilvusEntity().getEnableDynamicField())
-                        && StringUtils.isNotEmpty(key)) {
-                    // 动态字段：跳过 null/空 key，避免 Gson LinkedTreeMap NPE
-                    GsonUtil.put(jsonObject, key, value);
+        List<JsonObject> chunk = nextChunk(iterator, encoder, pk, chunkRows);
+        if (!iterator.hasNext()) {
+            return insert(chunk);
+        }
+        RowSizeEstimator estimator = rowSizeEstimator(this.conversionCache);
+        Semaphore inFlight = new Semaphore(RequestSplitter.getParallelism());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<MilvusResp<InsertResp>>> futures = new ArrayList<>();
+        long rows = 0;
+        try {
+            while (!chunk.isEmpty() && failure.get() == null) {
+                rows += chunk.size();
+                for (List<JsonObject> request : RequestSplitter.split(chunk, estimator, RequestSplitter.getMaxRequestBytes())) {
+                    inFlight.acquire();
+                    if (failure.get() != null) {
+                        inFlight.release();
+                        break;
+                    }
+                    futures.add(RequestSplitter.submit(() -> insertChunk(request)).whenComplete((r, e) -> {
+                        if (e != null) {
+                            failure.compareAndSet(null, e instanceof CompletionException ? e.getCause() : e);
+                        }
+                        inFlight.release();
+                    }));
                 }
+                chunk = iterator.hasNext() ? nextChunk(iterator, encoder, pk, chunkRows) : Collections.emptyList();
             }
-            if (conversionCache.isAutoID() && StringUtils.isNotEmpty(pk)) {
-                GsonUtil.put(jsonObject, pk, IdWorkerUtils.nextId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, MilvusPlusException.of("WRITE_INTERRUPTED", "Interrupted while streaming insert"));
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+        List<MilvusResp<InsertResp>> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<MilvusResp<InsertResp>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                // 失败已记录在 failure 中
             }
-            jsonObjects.add(jsonObject);
         }
-       return insert(jsonObjects);
+        if (failure.get() != null) {
+            throw MilvusPlusException.wrap(failure.get());
+        }
+        log.info("streamed insert of {} rows in {} requests", rows, futures.size());
+        return merge(results, (int) Math.min(Integer.MAX_VALUE, rows));
+    }
+
+    private static <T> List<JsonObject> nextChunk(Iterator<T> iterator, EntityEncoder<T> encoder, String pk, int chunkRows) {
+        List<JsonObject> chunk = new ArrayList<>(chunkRows);
+        while (chunk.size() < chunkRows && iterator.hasNext()) {
+            chunk.add(encoder.encodeInsert(iterator.next(), pk));
+        }
+        return chunk;
+    }
+
+    /**
+     * 将实体编码为 insert 行（含动态字段与 autoID 主键），供批量写入器在调用线程预先编码。
+     *
+     * @param entity 实体
+     * @return 行数据
+     */
+    public JsonObject encode(T entity) {
+        EntityEncoder<T> encoder = entityEncoder(conversionCache, entityType);
+        return encoder.encodeInsert(entity, CollectionToPrimaryCache.collectionToPrimary.get(collectionName));
+    }
+
+    /**
+     * 行大小估算器（按集合结构），与请求拆分使用同一估算。
+     */
+    public RowSizeEstimator rowSizeEstimator() {
+        return rowSizeEstimator(conversionCache);
+    }
+
+    /**
+     * 写入已编码的行，行数据见 {@link #encode(Object)}。
+     *
+     * @param rows 行数据
+     * @return 写入结果
+     */
+    public MilvusResp<InsertResp> insertRows(List<JsonObject> rows) {
+        return insert(rows);
     }
 
     @Override
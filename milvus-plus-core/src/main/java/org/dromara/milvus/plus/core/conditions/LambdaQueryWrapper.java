@@ -1,6 +1,7 @@
 package org.dromara.milvus.plus.core.conditions;
 
 import io.milvus.exception.MilvusException;
+import io.milvus.orm.iterator.QueryIterator;
 import io.milvus.v2.client.MilvusClientV2;
 import io.milvus.v2.common.ConsistencyLevel;
 import io.milvus.v2.common.IndexParam;
@@ -16,21 +17,39 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
 import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.CountCache;
+import org.dromara.milvus.plus.cache.NearCache;
+import org.dromara.milvus.plus.cache.NearCaches;
+import org.dromara.milvus.plus.cache.ResultCacheKey;
+import org.dromara.milvus.plus.cache.ResultCaches;
 import org.dromara.milvus.plus.converter.SearchRespConverter;
+import org.dromara.milvus.plus.converter.binder.EntityBinder;
+import org.dromara.milvus.plus.converter.binder.Projection;
 import org.dromara.milvus.plus.core.FieldFunction;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
+import org.dromara.milvus.plus.model.vo.KeysetPage;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.model.vo.MilvusResult;
 import org.dromara.milvus.plus.model.vo.PageResult;
 import org.dromara.milvus.plus.util.LogSanitizeUtil;
 import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.util.FloatVectorUtil;
 import org.dromara.milvus.plus.util.GsonUtil;
 import org.springframework.util.CollectionUtils;
 
 import java.io.Serializable;
+import java.nio.FloatBuffer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 搜索构建器内部类，用于构建搜索请求
@@ -60,6 +79,15 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
 
     private List<LambdaQueryWrapper<T>> hybridWrapper=new ArrayList<>();
 
+    /**
+     * stream() 默认批大小
+     */
+    public static final long DEFAULT_ITERATOR_BATCH_SIZE = 1000L;
+    /**
+     * getById 单个请求的主键数
+     */
+    private static final int GET_ID_CHUNK = 1000;
+
     /**
      * Hybrid search ranker. SDK 2.6+/3.x uses CreateCollectionReq.Function subclasses
      * (e.g. RRFRanker, WeightedRanker) instead of the removed BaseRanker type.
@@ -74,6 +102,11 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
     private Integer groupSize;
     private Boolean strictGroupSize;
 
+    /**
+     * 是否延迟解码实体，见 {@link #lazy(boolean)}
+     */
+    private boolean lazyEntity;
+
     public LambdaQueryWrapper() {
 
     }
@@ -93,6 +126,35 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
         return this;
     }
 
+    /**
+     * 开启实体延迟解码
+     *
+     * @return this
+     */
+    public LambdaQueryWrapper<T> lazy() {
+        return lazy(true);
+    }
+
+    /**
+     * 设置实体延迟解码：开启后结果只填充 id 与得分，原始行保留在 {@link MilvusResult} 中，
+     * 首次调用 {@link MilvusResult#getEntity()} 时才解码（线程安全，只解码一次），适合只需 id/得分的检索。
+     *
+     * @param lazy 是否延迟解码
+     * @return this
+     */
+    public LambdaQueryWrapper<T> lazy(boolean lazy) {
+        this.lazyEntity = lazy;
+        return this;
+    }
+
+    /**
+     * 异步操作（queryAsync 等）的超时，覆盖全局配置 milvus.async-timeout-millis；0 表示不限。
+     */
+    public LambdaQueryWrapper<T> asyncTimeout(long timeout, TimeUnit unit) {
+        this.asyncTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     public LambdaQueryWrapper<T> partition(String... partitionName) {
         this.partitionNames.addAll(Arrays.asList(partitionName));
         return this;
@@ -777,6 +839,27 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
         vectors.add(baseVector);
         return this;
     }
+    /**
+     * float[] 向量：以只读视图交给 FloatVec，不生成装箱列表。
+     */
+    public LambdaQueryWrapper<T> vector(float[] vector) {
+        return vector(new FloatVec(FloatVectorUtil.asList(vector)));
+    }
+    public LambdaQueryWrapper<T> vector(String annsField, float[] vector) {
+        return vector(annsField, new FloatVec(FloatVectorUtil.asList(vector)));
+    }
+    public LambdaQueryWrapper<T> vector(FieldFunction<T,?> annsField, float[] vector) {
+        return vector(annsField, new FloatVec(FloatVectorUtil.asList(vector)));
+    }
+    public LambdaQueryWrapper<T> vector(FloatBuffer vector) {
+        return vector(new FloatVec(FloatVectorUtil.asList(vector)));
+    }
+    public LambdaQueryWrapper<T> vector(String annsField, FloatBuffer vector) {
+        return vector(annsField, new FloatVec(FloatVectorUtil.asList(vector)));
+    }
+    public LambdaQueryWrapper<T> vector(FieldFunction<T,?> annsField, FloatBuffer vector) {
+        return vector(annsField, new FloatVec(FloatVectorUtil.asList(vector)));
+    }
     public LambdaQueryWrapper<T> textVector(FieldFunction<T,?> annsField, String vector) {
         this.annsField=annsField.getFieldName(annsField)+"_sparse";
         BaseVector baseVector = new EmbeddedText(vector);
@@ -932,6 +1015,14 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
         return vector(annsField, vector);
     }
 
+    public LambdaQueryWrapper<T> vectorSearch(FieldFunction<T, ?> annsField, float[] vector) {
+        return vector(annsField, vector);
+    }
+
+    public LambdaQueryWrapper<T> vectorSearch(String annsField, float[] vector) {
+        return vector(annsField, vector);
+    }
+
     public LambdaQueryWrapper<T> vectorSearch(FieldFunction<T, ?> annsField, BaseVector vector) {
         return vector(annsField, vector);
     }
@@ -1047,6 +1138,116 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
         return resp;
     }
 
+    /**
+     * 主键游标分页：追加 {@code pk > lastPk} 条件按主键升序取下一页，深分页与首页代价相同，不受 offset 上限约束。
+     * 依赖 Milvus 带 limit 的查询按主键归并有序（SDK QueryIterator 同样依赖此特性）。
+     *
+     * @param lastPk   上一页最后的主键，首页传 null
+     * @param pageSize 每页大小
+     */
+    public MilvusResp<KeysetPage<T>> pageAfter(Object lastPk, long pageSize) {
+        return pageAfter(lastPk, pageSize, false);
+    }
+
+    /**
+     * 主键游标分页。
+     *
+     * @param lastPk    上一页最后的主键，首页传 null
+     * @param pageSize  每页大小
+     * @param withTotal 是否返回匹配总数（按 集合 + 过滤条件 缓存，见 {@link CountCache}）
+     */
+    public MilvusResp<KeysetPage<T>> pageAfter(Object lastPk, long pageSize, boolean withTotal) {
+        if (pageSize < 1) {
+            throw MilvusPlusException.of("INVALID_PAGE", "pageSize must be >= 1");
+        }
+        if (!vectors.isEmpty() || (hybridWrapper != null && !hybridWrapper.isEmpty())) {
+            throw MilvusPlusException.of("PAGE_NOT_FOR_VECTOR_SEARCH", "pageAfter() is for scalar query only");
+        }
+        String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
+        if (StringUtils.isEmpty(pk)) {
+            throw MilvusPlusException.of("PRIMARY_KEY_UNKNOWN", "Primary key of collection " + collectionName + " is unknown");
+        }
+        String baseFilter = buildFilters();
+        String fingerprint = KeysetToken.fingerprint(collectionName, baseFilter, partitionNames);
+        List<String> originalOutput = this.outputFields;
+        long originalOffset = this.offset;
+        long originalLimit = this.limit;
+        int originalTopK = this.topK;
+        boolean cursorAdded = false;
+        try {
+            Long total = null;
+            if (withTotal) {
+                total = CountCache.get(collectionName, KeysetToken.countKey(baseFilter, partitionNames), () -> {
+                    MilvusResp<Long> countResp = count();
+                    return countResp.getData() == null ? 0L : countResp.getData();
+                });
+                this.outputFields = originalOutput;
+            }
+            if (lastPk != null) {
+                filters.add(wrapFieldName(pk) + " > " + convertValue(lastPk));
+                cursorAdded = true;
+            }
+            // 输出字段需包含主键，用于生成下一页游标
+            if (outputFields != null && !outputFields.isEmpty() && !outputFields.contains(pk)) {
+                List<String> fields = new ArrayList<>(outputFields);
+                fields.add(pk);
+                this.outputFields = fields;
+            }
+            this.offset = 0;
+            this.limit = pageSize;
+            this.topK = 0;
+            QueryReq queryReq = buildQuery();
+            log.info("Build Query param--> {}", LogSanitizeUtil.truncate(queryReq));
+            MilvusResp<KeysetPage<T>> resp = executeWithRetry(
+                    () -> {
+                        QueryResp queryResp = client.query(queryReq);
+                        List<QueryResp.QueryResult> rows = queryResp.getQueryResults();
+                        Object last = CollectionUtils.isEmpty(rows) ? null : rows.get(rows.size() - 1).getEntity().get(pk);
+                        KeysetPage<T> page = new KeysetPage<>();
+                        page.setPageSize(pageSize);
+                        page.setRecords(SearchRespConverter.convertGetRespToMilvusResp(queryResp, entityType, lazyEntity).getData());
+                        page.setLastPk(last);
+                        if (last != null && rows.size() >= pageSize) {
+                            page.setNextToken(KeysetToken.encode(fingerprint, last));
+                        }
+                        MilvusResp<KeysetPage<T>> milvusResp = new MilvusResp<>();
+                        milvusResp.setData(page);
+                        milvusResp.setSuccess(true);
+                        return milvusResp;
+                    },
+                    "collection not loaded",
+                    maxRetries,
+                    entityType,
+                    client
+            );
+            resp.getData().setTotal(total);
+            return resp;
+        } finally {
+            if (cursorAdded) {
+                filters.remove(filters.size() - 1);
+            }
+            this.outputFields = originalOutput;
+            this.offset = originalOffset;
+            this.limit = originalLimit;
+            this.topK = originalTopK;
+        }
+    }
+
+    /**
+     * 使用上一页返回的续页令牌取下一页；查询条件需与上一页一致。
+     *
+     * @param continuationToken {@link KeysetPage#getNextToken()}，首页传 null
+     * @param pageSize          每页大小
+     * @param withTotal         是否返回匹配总数
+     */
+    public MilvusResp<KeysetPage<T>> pageAfterToken(String continuationToken, long pageSize, boolean withTotal) {
+        Object lastPk = null;
+        if (StringUtils.isNotEmpty(continuationToken)) {
+            lastPk = KeysetToken.decode(continuationToken, KeysetToken.fingerprint(collectionName, buildFilters(), partitionNames));
+        }
+        return pageAfter(lastPk, pageSize, withTotal);
+    }
+
     /**
      * 构建完整的搜索请求
      * @return 搜索请求对象
@@ -1243,33 +1444,132 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
      * @return 搜索响应对象
      */
     public MilvusResp<List<MilvusResult<T>>> query() throws MilvusException{
-        return executeWithRetry(
-                () -> {
-                    if(hybridWrapper.size()>0){
-                        HybridSearchReq hybridSearchReq = buildHybrid();
-                        log.info("Build HybridSearch Param--> {}", LogSanitizeUtil.truncate(hybridSearchReq));
-                        SearchResp searchResp = client.hybridSearch(hybridSearchReq);
-                        return SearchRespConverter.convertSearchRespToMilvusResp(searchResp, entityType);
-                    }
-                    if (!vectors.isEmpty()) {
-                        SearchReq searchReq = buildSearch();
-                        log.info("Build Search Param--> {}", LogSanitizeUtil.truncate(searchReq));
-                        SearchResp searchResp = client.search(searchReq);
-                        return SearchRespConverter.convertSearchRespToMilvusResp(searchResp, entityType);
-                    } else {
-                        QueryReq queryReq = buildQuery();
-                        log.info("Build Query param--> {}", LogSanitizeUtil.truncate(queryReq));
-                        QueryResp queryResp = client.query(queryReq);
-                        return SearchRespConverter.convertGetRespToMilvusResp(queryResp, entityType);
-                    }
-                },
-                "collection not loaded",
-                maxRetries,
-                entityType,
-                client
-        );
+        return execute(() -> SearchRespConverter.binder(entityType));
+    }
+
+    /**
+     * 投影查询：输出字段由投影类的属性决定（属性名或 {@link org.dromara.milvus.plus.annotation.MilvusField#name()}），
+     * 结果直接绑定为投影对象，只需少量字段时响应更小、分配更少。存在向量或混合检索条件时执行检索，否则执行标量查询。
+     *
+     * @param projectionType 投影类
+     * @return 投影结果
+     */
+    public <P> MilvusResp<List<MilvusResult<P>>> queryAs(Class<P> projectionType) throws MilvusException {
+        Projection<P> projection = projection(projectionType);
+        this.outputFields = new ArrayList<>(projection.getOutputFields());
+        return execute(projection::getBinder);
     }
 
+    /**
+     * 投影检索，需先设置 vector(...) 或 hybrid(...)，见 {@link #queryAs(Class)}。
+     *
+     * @param projectionType 投影类
+     * @return 投影结果
+     */
+    public <P> MilvusResp<List<MilvusResult<P>>> searchAs(Class<P> projectionType) throws MilvusException {
+        if (vectors.isEmpty() && CollectionUtils.isEmpty(hybridWrapper)) {
+            throw MilvusPlusException.of("SEARCH_VECTOR_EMPTY", "searchAs() requires vector(...) or hybrid(...)");
+        }
+        return queryAs(projectionType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> Projection<P> projection(Class<P> projectionType) {
+        if (projectionType == null) {
+            throw MilvusPlusException.of("PROJECTION_TYPE_NULL", "projection type must not be null");
+        }
+        return (Projection<P>) conversionCache.getProjections()
+                .computeIfAbsent(projectionType, type -> Projection.of(type, conversionCache.getPropertyCache()));
+    }
+
+    private <R> MilvusResp<List<MilvusResult<R>>> execute(Supplier<EntityBinder<R>> binder) throws MilvusException {
+        EntityBinder<R> entityBinder = binder.get();
+        if (hybridWrapper.size() > 0) {
+            HybridSearchReq hybridSearchReq = buildHybrid();
+            log.info("Build HybridSearch Param--> {}", LogSanitizeUtil.truncate(hybridSearchReq));
+            return shared(() -> RequestFingerprint.of(hybridSearchReq), () -> client.hybridSearch(hybridSearchReq),
+                    SearchRespConverter::copyOf,
+                    searchResp -> SearchRespConverter.convertSearchRespToMilvusResp(searchResp, entityBinder, lazyEntity));
+        }
+        if (!vectors.isEmpty()) {
+            SearchReq searchReq = buildSearch();
+            log.info("Build Search Param--> {}", LogSanitizeUtil.truncate(searchReq));
+            return shared(() -> RequestFingerprint.of(searchReq), () -> SearchMicroBatcher.search(client, searchReq),
+                    SearchRespConverter::copyOf,
+                    searchResp -> SearchRespConverter.convertSearchRespToMilvusResp(searchResp, entityBinder, lazyEntity));
+        }
+        QueryReq queryReq = buildQuery();
+        log.info("Build Query param--> {}", LogSanitizeUtil.truncate(queryReq));
+        return shared(() -> RequestFingerprint.of(queryReq), () -> client.query(queryReq),
+                SearchRespConverter::copyOf,
+                queryResp -> SearchRespConverter.convertGetRespToMilvusResp(queryResp, entityBinder, lazyEntity));
+    }
+
+    /**
+     * 带重试执行，响应可共享：按实体配置命中结果缓存（见 {@link ResultCaches}），开启请求去重时
+     * 相同的并发请求共享一次调用（见 {@link SingleFlight}）。缓存与共享的是原始响应，
+     * 各调用方从深拷贝的行重新绑定，拿到的结果、实体与列表互不共享。
+     *
+     * @param fingerprint 请求指纹，仅在需要共享时计算
+     * @param call        实际请求，返回原始响应
+     * @param copy        原始响应的深拷贝
+     * @param convert     原始响应转换为结果
+     */
+    @SuppressWarnings("unchecked")
+    private <R, V> MilvusResp<V> shared(Supplier<String> fingerprint, Supplier<R> call, UnaryOperator<R> copy,
+                                        Function<R, MilvusResp<V>> convert) {
+        // Bounded / Eventually 读取在写入后仍可能看到旧数据，缓存会把旧结果保留到过期，因此不缓存
+        boolean weak = consistencyLevel == ConsistencyLevel.BOUNDED || consistencyLevel == ConsistencyLevel.EVENTUALLY;
+        long ttl = collectionName == null || weak ? 0L : ResultCaches.ttlMillis(entityType);
+        if (!SingleFlight.isEnabled() && ttl <= 0) {
+            return executeWithRetry(() -> convert.apply(call.get()), "collection not loaded", maxRetries, entityType, client);
+        }
+        String key = fingerprint.get();
+        ResultCacheKey cacheKey = null;
+        if (ttl > 0) {
+            // 缓存键在发送请求前取集合版本号，与写入并发的读取结果在写入后不会命中
+            cacheKey = ResultCaches.key(client, collectionName, key);
+            Object hit = ResultCaches.lookup(cacheKey);
+            if (hit != null) {
+                return convert.apply(copy.apply((R) hit));
+            }
+        }
+        R resp = SingleFlight.execute(client, key, null, () -> executeWithRetry(() -> {
+            MilvusResp<R> raw = new MilvusResp<>();
+            raw.setData(call.get());
+            raw.setSuccess(true);
+            return raw;
+        }, "collection not loaded", maxRetries, entityType, client).getData());
+        if (cacheKey != null) {
+            ResultCaches.put(cacheKey, resp, ttl);
+        }
+        return convert.apply(copy.apply(resp));
+    }
+
+    /**
+     * 多向量检索并按查询向量分组返回：第 i 组对应第 i 个 vector(...)（或混合检索的第 i 个查询），
+     * 而 {@link #query()} 会把所有查询向量的结果合并为一个列表。
+     *
+     * @return 每个查询向量一组结果
+     */
+    public MilvusResp<List<List<MilvusResult<T>>>> searchBatch() throws MilvusException {
+        if (vectors.isEmpty() && CollectionUtils.isEmpty(hybridWrapper)) {
+            throw MilvusPlusException.of("SEARCH_VECTOR_EMPTY", "searchBatch() requires vector(...) or hybrid(...)");
+        }
+        EntityBinder<T> entityBinder = SearchRespConverter.binder(entityType);
+        if (hybridWrapper.size() > 0) {
+            HybridSearchReq hybridSearchReq = buildHybrid();
+            log.info("Build HybridSearch Param--> {}", LogSanitizeUtil.truncate(hybridSearchReq));
+            return shared(() -> RequestFingerprint.of(hybridSearchReq), () -> client.hybridSearch(hybridSearchReq),
+                    SearchRespConverter::copyOf,
+                    searchResp -> SearchRespConverter.convertSearchRespToGroups(searchResp, entityBinder, lazyEntity));
+        }
+        SearchReq searchReq = buildSearch();
+        log.info("Build Search Param--> {}", LogSanitizeUtil.truncate(searchReq));
+        return shared(() -> RequestFingerprint.of(searchReq), () -> SearchMicroBatcher.search(client, searchReq),
+                SearchRespConverter::copyOf,
+                searchResp -> SearchRespConverter.convertSearchRespToGroups(searchResp, entityBinder, lazyEntity));
+    }
 
     public MilvusResp<List<MilvusResult<T>>> query(FieldFunction<T, ?>... outputFields) throws MilvusException {
         List<String> otf = new ArrayList<>();
@@ -1283,19 +1583,29 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
     public MilvusResp<Long> count() throws MilvusException {
         this.outputFields = new ArrayList<>();
         this.outputFields.add("count(*)");
-        return executeWithRetry(
-                () -> {
-                        QueryReq queryReq = buildQuery();
-                        log.info("Build Query param--> {}", LogSanitizeUtil.truncate(queryReq));
-                        QueryResp queryResp = client.query(queryReq);
-                        return SearchRespConverter.convertGetRespToCount(queryResp);
-                },
-                "collection not loaded",
-                maxRetries,
-                entityType,
-                client
-        );
+        QueryReq queryReq = buildQuery();
+        log.info("Build Query param--> {}", LogSanitizeUtil.truncate(queryReq));
+        return shared(() -> RequestFingerprint.of(queryReq), () -> client.query(queryReq),
+                UnaryOperator.identity(), SearchRespConverter::convertGetRespToCount);
+    }
 
+    /**
+     * 异步执行 {@link #query()}，取消或超时时中断请求。
+     */
+    public CompletableFuture<MilvusResp<List<MilvusResult<T>>>> queryAsync() {
+        return async(this::query);
+    }
+
+    public CompletableFuture<MilvusResp<Long>> countAsync() {
+        return async(this::count);
+    }
+
+    public CompletableFuture<MilvusResp<PageResult<T>>> pageAsync(long pageNum, long pageSize) {
+        return async(() -> page(pageNum, pageSize));
+    }
+
+    public CompletableFuture<MilvusResp<List<MilvusResult<T>>>> getByIdAsync(Serializable... ids) {
+        return async(() -> getById(ids));
     }
 
     public MilvusResp<List<MilvusResult<T>>> query(String... outputFields) throws MilvusException {
@@ -1303,20 +1613,176 @@ public class LambdaQueryWrapper<T> extends AbstractChainWrapper<T> implements Wr
         return query();
     }
 
+    /**
+     * 按主键获取：主键去重后按 {@link #GET_ID_CHUNK} 分块，在全部指定分区中并发获取，结果按请求的主键顺序返回。
+     * 实体标注 {@link org.dromara.milvus.plus.annotation.MilvusNearCache} 且未指定分区时，
+     * 命中近端缓存的主键在本地返回，只获取未命中的主键。
+     */
     public MilvusResp<List<MilvusResult<T>>> getById(Serializable... ids) {
         if (ids == null || ids.length == 0) {
             throw MilvusPlusException.of("IDS_EMPTY", "ids must not be empty");
         }
-        GetReq.GetReqBuilder builder = GetReq.builder()
+        List<Object> uniqueIds = PrimaryKeys.distinct(Arrays.asList(ids));
+        NearCache nearCache = CollectionUtils.isEmpty(partitionNames) ? NearCaches.get(collectionName, entityType) : null;
+        List<List<QueryResp.QueryResult>> results;
+        if (nearCache == null) {
+            results = fetch(uniqueIds);
+        } else {
+            results = new ArrayList<>();
+            List<QueryResp.QueryResult> hits = new ArrayList<>();
+            List<Object> misses = new ArrayList<>();
+            for (Object id : uniqueIds) {
+                Map<String, Object> row = nearCache.get(PrimaryKeys.key(id));
+                if (row == null) {
+                    misses.add(id);
+                } else {
+                    hits.add(QueryResp.QueryResult.builder().entity(row).build());
+                }
+            }
+            results.add(hits);
+            if (!misses.isEmpty()) {
+                long generation = nearCache.generation();
+                List<List<QueryResp.QueryResult>> fetched = fetch(misses);
+                String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
+                if (pk != null) {
+                    for (List<QueryResp.QueryResult> rows : fetched) {
+                        for (QueryResp.QueryResult row : rows) {
+                            nearCache.put(generation, PrimaryKeys.key(row.getEntity().get(pk)), row.getEntity());
+                        }
+                    }
+                }
+                results.addAll(fetched);
+            }
+        }
+        GetResp getResp = GetResp.builder().build();
+        getResp.setGetResults(inRequestedOrder(uniqueIds, results));
+        return SearchRespConverter.convertGetRespToMilvusResp(getResp, entityType, lazyEntity);
+    }
+
+    /**
+     * 主键分块 × 分区，并发获取。
+     */
+    private List<List<QueryResp.QueryResult>> fetch(List<Object> uniqueIds) {
+        String collection = StringUtils.isNotBlank(collectionAlias) ? collectionAlias : collectionName;
+        List<String> partitions = CollectionUtils.isEmpty(partitionNames)
+                ? Collections.singletonList(null) : partitionNames;
+        List<Map.Entry<String, List<Object>>> tasks = new ArrayList<>();
+        for (String partition : partitions) {
+            for (List<Object> chunk : PrimaryKeys.chunks(uniqueIds, GET_ID_CHUNK)) {
+                tasks.add(new AbstractMap.SimpleImmutableEntry<>(partition, chunk));
+            }
+        }
+        return RequestSplitter.executeReads(tasks, task -> {
+            GetReq.GetReqBuilder builder = GetReq.builder()
+                    .collectionName(collection)
+                    .ids(task.getValue());
+            if (task.getKey() != null) {
+                builder.partitionName(task.getKey());
+            }
+            GetResp resp = client.get(builder.build());
+            return resp == null || resp.getGetResults() == null
+                    ? Collections.<QueryResp.QueryResult>emptyList() : resp.getGetResults();
+        });
+    }
+
+    /**
+     * 按请求的主键顺序排列结果，同一主键只保留一行；无法按主键对应的行追加在末尾。
+     */
+    private List<QueryResp.QueryResult> inRequestedOrder(List<Object> ids, List<List<QueryResp.QueryResult>> results) {
+        String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
+        List<QueryResp.QueryResult> unmatched = new ArrayList<>();
+        Map<String, QueryResp.QueryResult> byKey = new HashMap<>(ids.size() * 2);
+        for (List<QueryResp.QueryResult> rows : results) {
+            for (QueryResp.QueryResult row : rows) {
+                String key = pk == null ? null : PrimaryKeys.key(row.getEntity().get(pk));
+                if (key == null) {
+                    unmatched.add(row);
+                } else {
+                    byKey.putIfAbsent(key, row);
+                }
+            }
+        }
+        List<QueryResp.QueryResult> ordered = new ArrayList<>(byKey.size() + unmatched.size());
+        for (Object id : ids) {
+            QueryResp.QueryResult row = byKey.remove(PrimaryKeys.key(id));
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        ordered.addAll(byKey.values());
+        ordered.addAll(unmatched);
+        return ordered;
+    }
+
+    /**
+     * 按批迭代全部匹配实体（基于 SDK QueryIterator），不受单次查询 16384 行上限与 offset 翻页的限制。
+     * 只使用过滤条件、分区、输出字段与 limit；后台预取下一批，内存中最多保留两批。未遍历完时需关闭迭代器。
+     *
+     * @param batchSize 每批行数
+     * @return 实体迭代器
+     */
+    public EntityIterator<T> queryIterator(long batchSize) {
+        if (batchSize <= 0) {
+            throw MilvusPlusException.of("BATCH_SIZE_INVALID", "batchSize must be positive");
+        }
+        if (!vectors.isEmpty() || !CollectionUtils.isEmpty(hybridWrapper)) {
+            throw MilvusPlusException.of("ITERATOR_NOT_FOR_VECTOR_SEARCH", "queryIterator() is for scalar query only");
+        }
+        QueryIteratorReq queryIteratorReq = buildQueryIterator(batchSize);
+        log.info("Build QueryIterator param--> {}", LogSanitizeUtil.truncate(queryIteratorReq));
+        QueryIterator iterator = executeWithRetry(
+                () -> {
+                    MilvusResp<QueryIterator> resp = new MilvusResp<>();
+                    resp.setData(client.queryIterator(queryIteratorReq));
+                    resp.setSuccess(true);
+                    return resp;
+                },
+                "collection not loaded",
+                maxRetries,
+                entityType,
+                client
+        ).getData();
+        return new EntityIterator<>(iterator, SearchRespConverter.binder(entityType));
+    }
+
+    /**
+     * 以流的方式遍历全部匹配实体，使用默认批大小，见 {@link #queryIterator(long)}。使用完毕需关闭流。
+     */
+    public Stream<T> stream() {
+        return stream(DEFAULT_ITERATOR_BATCH_SIZE);
+    }
+
+    public Stream<T> stream(long batchSize) {
+        return queryIterator(batchSize).stream();
+    }
+
+    private QueryIteratorReq buildQueryIterator(long batchSize) {
+        QueryIteratorReq.QueryIteratorReqBuilder builder = QueryIteratorReq.builder()
                 .collectionName(StringUtils.isNotBlank(collectionAlias) ? collectionAlias : collectionName)
-                .ids(Arrays.asList(ids));
+                .batchSize(batchSize);
+        String filterStr = buildFilters();
+        if (StringUtils.isNotBlank(filterStr)) {
+            builder.expr(filterStr);
+        }
+        if (limit > 0) {
+            builder.limit(limit);
+        }
+        if (consistencyLevel != null) {
+            builder.consistencyLevel(consistencyLevel);
+        }
+        if (ignoreGrowing != null) {
+            builder.ignoreGrowing(ignoreGrowing);
+        }
         if (!CollectionUtils.isEmpty(partitionNames)) {
-            builder.partitionName(partitionNames.get(0));
+            builder.partitionNames(partitionNames);
         }
-        GetReq getReq = builder.build();
-        GetResp getResp = client.get(getReq);
-
-        return SearchRespConverter.convertGetRespToMilvusResp(getResp, entityType);
+        if (outputFields != null && !outputFields.isEmpty()) {
+            builder.outputFields(outputFields);
+        } else if (conversionCache != null && conversionCache.getPropertyCache() != null) {
+            Collection<String> values = conversionCache.getPropertyCache().functionToPropertyMap.values();
+            builder.outputFields(new ArrayList<>(values));
+        }
+        return builder.build();
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.dromara.milvus.plus.core.conditions;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.milvus.exception.MilvusException;
 import io.milvus.v2.client.MilvusClientV2;
@@ -14,15 +15,20 @@ import org.apache.commons.lang3.StringUtils;
 import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
 import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.PropertyCache;
+import org.dromara.milvus.plus.cache.NearCaches;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.cache.ServerCapabilityCache;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
 import org.dromara.milvus.plus.core.FieldFunction;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.util.GsonUtil;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * 构建器内部类，用于构建update请求
@@ -31,6 +37,10 @@ import java.util.function.Consumer;
 @Data
 @Slf4j
 public class LambdaUpdateWrapper<T> extends AbstractChainWrapper<T> implements Wrapper<LambdaUpdateWrapper<T>, T> {
+    /**
+     * 回查旧行时每个 pk in 查询的主键数
+     */
+    private static final int MERGE_QUERY_CHUNK = 1000;
     private ConversionCache conversionCache;
     private Class<T> entityType;
     private String collectionName;
@@ -49,6 +59,14 @@ public class LambdaUpdateWrapper<T> extends AbstractChainWrapper<T> implements W
 
     }
 
+    /**
+     * 异步操作（updateByIdAsync）的超时，覆盖全局配置 milvus.async-timeout-millis；0 表示不限。
+     */
+    public LambdaUpdateWrapper<T> asyncTimeout(long timeout, TimeUnit unit) {
+        this.asyncTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
     public LambdaUpdateWrapper<T> partition(String partitionName) {
         this.partitionName = partitionName;
         return this;
@@ -809,7 +827,9 @@ public class LambdaUpdateWrapper<T> extends AbstractChainWrapper<T> implements W
 
 
     /**
-     * 部分更新：仅提交非空/已设置字段，不回填整行（依赖服务端 partial upsert）。
+     * 部分更新：仅更新非空/已设置字段。服务端支持 partial upsert（默认 2.6.0+，见 milvus.partial-upsert-min-version）时只提交变更列，
+     * 否则回查旧行在客户端合并为完整行；milvus.server-partial-upsert=false 时始终走客户端合并。
+     * 两种方式对不存在的主键行为不同，见 {@link #updateById(Object[])}。
      */
     public LambdaUpdateWrapper<T> partial(boolean partialUpdate) {
         this.partialUpdate = partialUpdate;
@@ -820,21 +840,64 @@ public class LambdaUpdateWrapper<T> extends AbstractChainWrapper<T> implements W
         return partial(true);
     }
 
+    /**
+     * 写入行数据；估算大小超出请求字节预算时拆分为多个请求并发发送，结果合并为一个响应。
+     */
     private MilvusResp<UpsertResp> update(List<JsonObject> jsonObjects) {
+        return update(jsonObjects, false);
+    }
+
+    /**
+     * @param serverPartial 行仅包含变更列，由服务端 partial upsert 合并
+     */
+    private MilvusResp<UpsertResp> update(List<JsonObject> jsonObjects, boolean serverPartial) {
+        List<List<JsonObject>> chunks = RequestSplitter.split(jsonObjects, rowSizeEstimator(conversionCache),
+                RequestSplitter.getMaxRequestBytes());
+        if (chunks.size() == 1) {
+            return upsertChunk(jsonObjects, serverPartial);
+        }
+        log.info("upsert {} rows in {} requests", jsonObjects.size(), chunks.size());
+        List<MilvusResp<UpsertResp>> results = RequestSplitter.execute(chunks, chunk -> upsertChunk(chunk, serverPartial));
+        long count = 0;
+        List<Object> primaryKeys = new ArrayList<>(jsonObjects.size());
+        for (MilvusResp<UpsertResp> result : results) {
+            UpsertResp data = result.getData();
+            if (data != null) {
+                count += data.getUpsertCnt();
+                if (data.getPrimaryKeys() != null) {
+                    primaryKeys.addAll(data.getPrimaryKeys());
+                }
+            }
+        }
+        UpsertResp merged = UpsertResp.builder().build();
+        merged.setUpsertCnt(count);
+        merged.setPrimaryKeys(primaryKeys);
+        MilvusResp<UpsertResp> resp = new MilvusResp<>();
+        resp.setData(merged);
+        resp.setSuccess(true);
+        return resp;
+    }
+
+    private MilvusResp<UpsertResp> upsertChunk(List<JsonObject> jsonObjects, boolean serverPartial) {
         return executeWithRetry(
                 () -> {
-                    log.info("update data--->{}, partial={}", org.dromara.milvus.plus.util.LogSanitizeUtil.truncate(jsonObjects), partialUpdate);
+                    log.info("update data--->{}, partial={}, serverPartial={}", org.dromara.milvus.plus.util.LogSanitizeUtil.truncate(jsonObjects), partialUpdate, serverPartial);
                     UpsertReq.UpsertReqBuilder builder = UpsertReq.builder()
                             .collectionName(collectionName)
                             .data(jsonObjects);
                     if (StringUtils.isNotEmpty(partitionName)) {
                         builder.partitionName(partitionName);
                     }
-                    // partial 语义在 updateById 中通过「读改写」实现，兼容不支持服务端 partial 的版本。
-                    // 若已合并为完整行，不再传 partialUpdate，避免服务端校验缺字段。
+                    // 服务端支持时 partial 只提交变更列并传 partialUpdate；
+                    // 否则在 updateById 中通过「读改写」合并为完整行，不再传 partialUpdate，避免服务端校验缺字段。
+                    if (serverPartial) {
+                        builder.partialUpdate(true);
+                    }
                     UpsertReq upsertReq = builder
                             .build();
                     UpsertResp upsert = client.upsert(upsertReq);
+                    ResultCaches.invalidate(collectionName);
+                    NearCaches.evictRows(collectionName, jsonObjects);
                     MilvusResp<UpsertResp> resp = new MilvusResp<>();
                     resp.setData(upsert);
                     resp.setSuccess(true);
@@ -847,91 +910,159 @@ public class LambdaUpdateWrapper<T> extends AbstractChainWrapper<T> implements W
         );
     }
 
+    /**
+     * 按主键更新。
+     * <p>
+     * 非 partial：缺非空字段的行回查旧行补齐，查不到旧行时按原样写入。
+     * partial：客户端合并时跳过主键不存在的行；使用服务端 partial upsert 时不回查，
+     * 主键不存在的行会以仅含变更列的残缺行插入。需要跳过时配置 milvus.server-partial-upsert=false。
+     *
+     * @param entity 实体，必须包含主键
+     * @return 更新结果
+     */
     public MilvusResp<UpsertResp> updateById(T... entity) throws MilvusException {
         Iterator<T> iterator = new ArrayIterator<>(entity);
         return updateById(iterator);
     }
 
+    /**
+     * 异步执行 {@link #updateById(Object[])}；超时或取消时已发送的块可能已写入。
+     */
+    @SafeVarargs
+    public final CompletableFuture<MilvusResp<UpsertResp>> updateByIdAsync(T... entity) {
+        return async(() -> updateById(new ArrayIterator<>(entity)));
+    }
+
+    public CompletableFuture<MilvusResp<UpsertResp>> updateByIdAsync(Collection<T> entities) {
+        return async(() -> updateById(entities.iterator()));
+    }
+
     public MilvusResp<UpsertResp> updateById(Iterator<T> iterator) throws MilvusException {
-        PropertyCache propertyCache = conversionCache.getPropertyCache();
-        String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
         List<JsonObject> jsonObjects = new ArrayList<>();
+        EntityEncoder<T> encoder = entityEncoder(conversionCache, entityType);
         // 使用迭代器遍历可变参数
         while (iterator.hasNext()) {
-            T t1 = iterator.next();
-            Map<String, Object> propertiesMap = getPropertiesMap(t1);
-            JsonObject jsonObject = new JsonObject();
-            for (Map.Entry<String, Object> entry : propertiesMap.entrySet()) {
-                String key = entry.getKey();
-                if (key == null) {
-                    continue;
-                }
-                Object value = entry.getValue();
-                // 根据PropertyCache转换属性名
-                String tk = propertyCache.functionToPropertyMap.get(key);
-                if (StringUtils.isNotEmpty(tk)) {
-                    GsonUtil.put(jsonObject, tk, value);
-                }
-            }
+            // 编码器仅输出已映射的非 null 属性
+            jsonObjects.add(encoder.encodeUpdate(iterator.next()));
+        }
+        return updateRows(jsonObjects);
+    }
+
+    /**
+     * 将实体编码为 upsert 行（仅包含已映射的非 null 属性），供写合并器预先编码。
+     *
+     * @param entity 实体
+     * @return 行数据
+     */
+    public JsonObject encode(T entity) {
+        return entityEncoder(conversionCache, entityType).encodeUpdate(entity);
+    }
+
+    /**
+     * 按主键更新已编码的行（行数据见 {@link #encode(Object)}），与 updateById 相同：按需回查补齐或使用服务端 partial upsert。
+     *
+     * @param jsonObjects 行数据，必须包含主键
+     * @return 更新结果
+     */
+    public MilvusResp<UpsertResp> updateRows(List<JsonObject> jsonObjects) throws MilvusException {
+        PropertyCache propertyCache = conversionCache.getPropertyCache();
+        String pk = CollectionToPrimaryCache.collectionToPrimary.get(collectionName);
+        for (JsonObject jsonObject : jsonObjects) {
             // 检查是否包含主键
             if (!jsonObject.has(pk)) {
                 throw new MilvusException("not find primary key", 400);
             }
-            jsonObjects.add(jsonObject);
         }
-        // 准备更新的数据列表
-        List<JsonObject> updateDataList = new ArrayList<>();
-        for (JsonObject updateObject : jsonObjects) {
-            boolean needMerge = partialUpdate;
+        // 服务端支持 partial upsert 时只提交变更列，跳过回查（主键不存在时会插入残缺行）
+        if (partialUpdate && ServerCapabilityCache.supportsPartialUpsert(client)) {
+            return update(jsonObjects, true);
+        }
+        // 需要回查补齐的行：按主键分块批量查询，经主键索引合并，不再逐行查询
+        boolean[] needMerge = new boolean[jsonObjects.size()];
+        List<JsonElement> mergeKeys = new ArrayList<>();
+        for (int i = 0; i < jsonObjects.size(); i++) {
+            JsonObject updateObject = jsonObjects.get(i);
+            needMerge[i] = partialUpdate;
             // 非 partial：缺非空字段时回查补齐
             // partial：始终回查，用旧行覆盖缺失字段（客户端部分更新，兼容 2.5/3.x）
             if (!partialUpdate) {
                 for (Map.Entry<String, String> property : propertyCache.functionToPropertyMap.entrySet()) {
                     Boolean nullable = propertyCache.nullableToPropertyMap.get(property.getKey());
                     if (updateObject.get(property.getValue()) == null && !Boolean.TRUE.equals(nullable)) {
-                        needMerge = true;
+                        needMerge[i] = true;
                         break;
                     }
                 }
             }
-            if (needMerge) {
-                com.google.gson.JsonElement pkVal = updateObject.get(pk);
-                String pkLiteral = pkVal == null ? "null" : pkVal.toString();
-                // JsonPrimitive number toString is fine; string includes quotes
-                QueryReq.QueryReqBuilder builder = QueryReq.builder()
-                        .collectionName(collectionName)
-                        .filter(pk + " == " + pkLiteral)
-                        .outputFields(new ArrayList<>(propertyCache.functionToPropertyMap.values()))
-                        .limit(1L);
-                QueryResp queryResp = client.query(builder.build());
-                if (queryResp != null && queryResp.getQueryResults() != null && !queryResp.getQueryResults().isEmpty()) {
-                    for (QueryResp.QueryResult result : queryResp.getQueryResults()) {
-                        Map<String, Object> existingEntity = result.getEntity();
-                        JsonObject existingData = new JsonObject();
-                        // 先铺旧值
-                        for (Map.Entry<String, Object> existingEntry : existingEntity.entrySet()) {
-                            GsonUtil.put(existingData, existingEntry.getKey(), existingEntry.getValue());
-                        }
-                        // 再用更新对象覆盖（仅非 null 字段）
-                        for (Map.Entry<String, com.google.gson.JsonElement> ue : updateObject.entrySet()) {
-                            if (ue.getValue() != null && !ue.getValue().isJsonNull()) {
-                                existingData.add(ue.getKey(), ue.getValue());
-                            }
-                        }
-                        updateDataList.add(existingData);
+            if (needMerge[i]) {
+                mergeKeys.add(updateObject.get(pk));
+            }
+        }
+        Map<String, Map<String, Object>> existingRows = mergeKeys.isEmpty()
+                ? Collections.emptyMap()
+                : queryExisting(pk, PrimaryKeys.distinct(mergeKeys), new ArrayList<>(propertyCache.functionToPropertyMap.values()));
+        // 准备更新的数据列表，保持输入顺序
+        List<JsonObject> updateDataList = new ArrayList<>(jsonObjects.size());
+        for (int i = 0; i < jsonObjects.size(); i++) {
+            JsonObject updateObject = jsonObjects.get(i);
+            if (!needMerge[i]) {
+                updateDataList.add(updateObject);
+                continue;
+            }
+            Map<String, Object> existingEntity = existingRows.get(PrimaryKeys.key(updateObject.get(pk)));
+            if (existingEntity != null) {
+                JsonObject existingData = new JsonObject();
+                // 先铺旧值
+                for (Map.Entry<String, Object> existingEntry : existingEntity.entrySet()) {
+                    GsonUtil.put(existingData, existingEntry.getKey(), existingEntry.getValue());
+                }
+                // 再用更新对象覆盖（仅非 null 字段）
+                for (Map.Entry<String, JsonElement> ue : updateObject.entrySet()) {
+                    if (ue.getValue() != null && !ue.getValue().isJsonNull()) {
+                        existingData.add(ue.getKey(), ue.getValue());
                     }
-                } else if (!partialUpdate) {
-                    // 无旧行且非 partial：直接写
-                    updateDataList.add(updateObject);
                 }
-                // partial 且查不到旧行：跳过，避免写入残缺行
-            } else {
+                updateDataList.add(existingData);
+            } else if (!partialUpdate) {
+                // 无旧行且非 partial：直接写
                 updateDataList.add(updateObject);
             }
+            // partial 且查不到旧行：跳过，避免写入残缺行
         }
         return update(updateDataList);
     }
 
+    /**
+     * 按主键分块（{@code pk in [...]}）并发查询旧行。
+     *
+     * @param pk           主键集合属性名称
+     * @param keys         主键取值（JsonElement，已去重）
+     * @param outputFields 输出字段
+     * @return 主键索引 -> 旧行
+     */
+    private Map<String, Map<String, Object>> queryExisting(String pk, List<Object> keys, List<String> outputFields) {
+        List<List<Object>> chunks = PrimaryKeys.chunks(keys, MERGE_QUERY_CHUNK);
+        List<List<QueryResp.QueryResult>> results = RequestSplitter.executeReads(chunks, chunk -> {
+            String literals = chunk.stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+            QueryReq queryReq = QueryReq.builder()
+                    .collectionName(collectionName)
+                    .filter(pk + " in " + literals)
+                    .outputFields(outputFields)
+                    .limit(chunk.size())
+                    .build();
+            QueryResp queryResp = client.query(queryReq);
+            return queryResp == null || queryResp.getQueryResults() == null
+                    ? Collections.<QueryResp.QueryResult>emptyList() : queryResp.getQueryResults();
+        });
+        Map<String, Map<String, Object>> existingRows = new HashMap<>(keys.size() * 2);
+        for (List<QueryResp.QueryResult> rows : results) {
+            for (QueryResp.QueryResult row : rows) {
+                existingRows.put(PrimaryKeys.key(row.getEntity().get(pk)), row.getEntity());
+            }
+        }
+        return existingRows;
+    }
+
     @Override
     public void init(String collectionName, MilvusClientV2 client, ConversionCache conversionCache, Class<T> entityType) {
         setClient(client);
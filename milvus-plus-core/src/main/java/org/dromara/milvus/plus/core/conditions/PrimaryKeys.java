@@ -0,0 +1,60 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.util.*;
+
+/**
+ * 主键工具：统一主键表示、去重与分块，供按主键读写的构建器使用。
+ *
+ * @author xgc
+ **/
+public final class PrimaryKeys {
+
+    private PrimaryKeys() {
+    }
+
+    /**
+     * 主键索引：统一数值主键（JSON 数值 / Long）与字符串主键的表示。
+     */
+    public static String key(Object value) {
+        if (value instanceof JsonElement) {
+            JsonElement element = (JsonElement) value;
+            if (element.isJsonNull()) {
+                return null;
+            }
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            return primitive.isNumber() ? "n:" + primitive.getAsLong() : "s:" + primitive.getAsString();
+        }
+        if (value instanceof Number) {
+            return "n:" + ((Number) value).longValue();
+        }
+        return value == null ? null : "s:" + value;
+    }
+
+    /**
+     * 去重并保持首次出现的顺序，忽略 null。
+     */
+    public static List<Object> distinct(Collection<?> ids) {
+        Map<String, Object> unique = new LinkedHashMap<>(Math.max(16, ids.size() * 2));
+        for (Object id : ids) {
+            String key = key(id);
+            if (key != null) {
+                unique.putIfAbsent(key, id);
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * 按固定大小分块（子列表视图）。
+     */
+    public static <V> List<List<V>> chunks(List<V> ids, int size) {
+        List<List<V>> chunks = new ArrayList<>((ids.size() + size - 1) / size);
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + size)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,200 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.v2.service.collection.request.CreateCollectionReq;
+import io.milvus.v2.service.vector.request.AnnSearchReq;
+import io.milvus.v2.service.vector.request.FunctionScore;
+import io.milvus.v2.service.vector.request.HybridSearchReq;
+import io.milvus.v2.service.vector.request.QueryReq;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.request.highlighter.Highlighter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 请求指纹：对构建好的 SearchReq / QueryReq / HybridSearchReq 做规范化后取 SHA-256。
+ * <p>
+ * 规范化规则：Map 按键排序；outputFields、partitionNames 视为集合（排序）；查询向量按内容逐元素写入；
+ * 排序器等函数按类型、字段与参数写入。结果相同的等价请求得到相同指纹，用于请求去重与结果缓存的键。
+ *
+ * @author xgc
+ **/
+public final class RequestFingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest digest;
+
+    private RequestFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String of(SearchReq req) {
+        return search(req, true).hex();
+    }
+
+    public static String of(QueryReq req) {
+        RequestFingerprint f = new RequestFingerprint();
+        f.put("query").put(req.getDatabaseName()).put(req.getCollectionName()).set(req.getPartitionNames())
+                .set(req.getOutputFields()).put(req.getIds()).put(req.getFilter()).put(req.getFilterTemplateValues())
+                .put(req.getConsistencyLevel()).put(req.getOffset()).put(req.getLimit()).put(req.isIgnoreGrowing())
+                .put(req.getTimezone()).put(req.getQueryParams());
+        return f.hex();
+    }
+
+    public static String of(HybridSearchReq req) {
+        RequestFingerprint f = new RequestFingerprint();
+        f.put("hybrid").put(req.getDatabaseName()).put(req.getCollectionName()).set(req.getPartitionNames());
+        List<AnnSearchReq> searchRequests = req.getSearchRequests() == null ? Collections.emptyList() : req.getSearchRequests();
+        f.put(searchRequests.size());
+        for (AnnSearchReq ann : searchRequests) {
+            f.put(ann.getVectorFieldName()).put(ann.getLimit()).put(ann.getFilter())
+                    .put(ann.getParams()).put(ann.getMetricType()).put(ann.getTimezone()).put(ann.getFilterTemplateValues())
+                    .vectors(ann.getVectors());
+        }
+        f.put(req.getRanker()).put(req.getFunctionScore()).put(req.getLimit()).set(req.getOutFields())
+                .put(req.getOffset()).put(req.getRoundDecimal()).put(req.getConsistencyLevel()).put(req.getGroupByFieldName())
+                .put(req.getGroupSize()).put(req.getStrictGroupSize());
+        return f.hex();
+    }
+
+    /**
+     * 游标分页的查询条件指纹：集合、过滤条件、分区（与顺序无关）。
+     */
+    static String keyset(String collectionName, String filter, Collection<String> partitionNames) {
+        RequestFingerprint f = new RequestFingerprint();
+        f.put("keyset").put(collectionName).put(filter).set(partitionNames);
+        return f.hex();
+    }
+
+    /**
+     * 除查询向量外的检索参数指纹（含向量类型），供检索微批判断能否合并。
+     */
+    static String withoutData(SearchReq req) {
+        RequestFingerprint f = search(req, false);
+        List<BaseVector> data = req.getData();
+        f.put(data == null || data.isEmpty() ? null : data.get(0).getClass().getName());
+        return f.hex();
+    }
+
+    private static RequestFingerprint search(SearchReq req, boolean withData) {
+        RequestFingerprint f = new RequestFingerprint();
+        f.put("search").put(req.getDatabaseName()).put(req.getCollectionName()).set(req.getPartitionNames())
+                .put(req.getAnnsField()).put(req.getMetricType()).put(req.getLimit()).put(req.getOffset())
+                .put(req.getFilter()).put(req.getFilterTemplateValues()).set(req.getOutputFields()).put(req.getSearchParams())
+                .put(req.getRoundDecimal()).put(req.getGuaranteeTimestamp()).put(req.getGracefulTime())
+                .put(req.getConsistencyLevel()).put(req.isIgnoreGrowing()).put(req.getTimezone())
+                .put(req.getGroupByFieldName()).put(req.getGroupSize()).put(req.getStrictGroupSize()).put(req.getRanker())
+                .put(req.getFunctionScore()).put(req.getHighlighter()).put(req.getIds());
+        if (withData) {
+            f.vectors(req.getData());
+        }
+        return f;
+    }
+
+    private RequestFingerprint vectors(List<BaseVector> vectors) {
+        if (vectors == null) {
+            return put((Object) null);
+        }
+        token("V" + vectors.size());
+        for (BaseVector vector : vectors) {
+            token(vector.getClass().getName());
+            Object data = vector.getData();
+            if (data instanceof ByteBuffer) {
+                ByteBuffer buffer = ((ByteBuffer) data).duplicate();
+                buffer.rewind();
+                token("B" + buffer.remaining());
+                digest.update(buffer);
+            } else if (data instanceof List && !((List<?>) data).isEmpty() && ((List<?>) data).get(0) instanceof Float) {
+                // 稠密向量按 float 位模式写入，避免逐元素格式化
+                List<?> floats = (List<?>) data;
+                ByteBuffer bits = ByteBuffer.allocate(floats.size() * 4);
+                for (Object element : floats) {
+                    bits.putInt(Float.floatToIntBits((Float) element));
+                }
+                token("F" + floats.size());
+                digest.update(bits.array());
+            } else {
+                put(data);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 无序集合（排序后写入）
+     */
+    private RequestFingerprint set(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return put((Object) null);
+        }
+        return put(new TreeSet<>(values));
+    }
+
+    private RequestFingerprint put(Object value) {
+        if (value == null) {
+            token("N");
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            token("M" + sorted.size());
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                token(entry.getKey());
+                put(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            token("L" + collection.size());
+            for (Object element : collection) {
+                put(element);
+            }
+        } else if (value instanceof CreateCollectionReq.Function) {
+            CreateCollectionReq.Function function = (CreateCollectionReq.Function) value;
+            token(function.getClass().getName());
+            put(function.getName()).put(function.getFunctionType()).put(function.getInputFieldNames())
+                    .put(function.getOutputFieldNames()).put(function.getParams());
+        } else if (value instanceof FunctionScore) {
+            FunctionScore score = (FunctionScore) value;
+            token("FS");
+            put(score.getFunctions()).put(score.getParams());
+        } else if (value instanceof Highlighter) {
+            token(value.getClass().getName());
+            put(((Highlighter) value).getParams());
+        } else if (value instanceof Enum) {
+            token(((Enum<?>) value).name());
+        } else {
+            token(value.getClass().getSimpleName() + ":" + value);
+        }
+        return this;
+    }
+
+    private void token(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+        // 长度前缀避免拼接歧义
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private String hex() {
+        byte[] bytes = digest.digest();
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,286 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.response.SearchResp;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 跨线程检索微批：把并发到达、除查询向量外参数完全相同的单向量检索在一个很短的窗口内合并为一次 nq&gt;1 的
+ * SearchReq，再按查询向量拆回给各调用方。
+ * <p>
+ * 第一个到达的调用方负责等待窗口并发送；批次满 {@code search-batch-max-size} 时由填满它的调用方立即发送。
+ * 发送者因自身被中断（异步接口超时或取消）而失败时，该失败只抛给发送者，批次中的其他调用方各自单独检索。
+ * 默认关闭（{@code search-batch-window-micros=0}），启动时按 {@link MilvusProperties} 配置。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public final class SearchMicroBatcher {
+
+    /**
+     * 默认单批最大查询向量数
+     */
+    public static final int DEFAULT_MAX_BATCH = 32;
+
+    private static volatile long windowNanos;
+    private static volatile int maxBatch = DEFAULT_MAX_BATCH;
+
+    private static final Map<Key, Batch> OPEN = new ConcurrentHashMap<>();
+    private static final AtomicLong REQUESTS = new AtomicLong();
+    private static final AtomicLong SEARCHES = new AtomicLong();
+
+    private SearchMicroBatcher() {
+    }
+
+    public static void configure(MilvusProperties properties) {
+        windowNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0L, properties.getSearchBatchWindowMicros()));
+        maxBatch = Math.max(1, properties.getSearchBatchMaxSize());
+    }
+
+    /**
+     * 是否启用微批。
+     */
+    public static boolean isEnabled() {
+        return windowNanos > 0 && maxBatch > 1;
+    }
+
+    /**
+     * 经微批合并的检索请求数。
+     */
+    public static long getBatchedRequests() {
+        return REQUESTS.get();
+    }
+
+    /**
+     * 实际发送的合并检索次数。
+     */
+    public static long getBatchedSearches() {
+        return SEARCHES.get();
+    }
+
+    /**
+     * 执行检索：可合并时加入当前批次，否则直接发送。
+     *
+     * @param client 客户端
+     * @param req    检索请求
+     * @return 检索响应，合并时只含本请求对应的一组结果
+     */
+    public static SearchResp search(MilvusClientV2 client, SearchReq req) {
+        if (!isEnabled() || !batchable(req)) {
+            return client.search(req);
+        }
+        REQUESTS.incrementAndGet();
+        Key key = new Key(client, RequestFingerprint.withoutData(req));
+        BaseVector vector = req.getData().get(0);
+        Batch batch;
+        int slot;
+        boolean leader;
+        boolean full = false;
+        while (true) {
+            batch = OPEN.computeIfAbsent(key, k -> new Batch(req));
+            synchronized (batch) {
+                if (batch.closed) {
+                    // 已发送的批次尚未从表中移除，重试
+                    OPEN.remove(key, batch);
+                    continue;
+                }
+                slot = batch.vectors.size();
+                batch.vectors.add(vector);
+                leader = slot == 0;
+                if (leader) {
+                    batch.leaderThread = Thread.currentThread();
+                }
+                if (batch.vectors.size() >= maxBatch) {
+                    batch.closed = true;
+                    full = true;
+                    OPEN.remove(key, batch);
+                    LockSupport.unpark(batch.leaderThread);
+                }
+            }
+            break;
+        }
+        boolean sender = false;
+        SearchResp merged;
+        try {
+            if (leader && batch.awaitClose(key, windowNanos) || !leader && full) {
+                sender = true;
+                batch.send(client);
+            }
+            merged = batch.result(sender);
+        } finally {
+            // 其他调用方依赖发起者发送，取得结果后再恢复中断状态，避免中断取消合并后的请求
+            if (leader && batch.leaderInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (merged == null) {
+            // 发送者被自身中断，合并请求的失败不属于本调用方
+            return client.search(req);
+        }
+        return single(merged, slot);
+    }
+
+    private static boolean batchable(SearchReq req) {
+        return req.getData() != null && req.getData().size() == 1
+                && (req.getIds() == null || req.getIds().isEmpty());
+    }
+
+    private static SearchResp single(SearchResp merged, int slot) {
+        List<List<SearchResp.SearchResult>> groups = merged.getSearchResults();
+        List<SearchResp.SearchResult> hits = groups != null && slot < groups.size() ? groups.get(slot) : new ArrayList<>();
+        SearchResp resp = SearchResp.builder().build();
+        resp.setSearchResults(Collections.singletonList(hits));
+        resp.setSessionTs(merged.getSessionTs());
+        if (merged.getRecalls() != null && slot < merged.getRecalls().size()) {
+            resp.setRecalls(Collections.singletonList(merged.getRecalls().get(slot)));
+        }
+        return resp;
+    }
+
+    /**
+     * 客户端（按引用）+ 参数签名
+     */
+    private static final class Key {
+        private final MilvusClientV2 client;
+        private final String signature;
+
+        private Key(MilvusClientV2 client, String signature) {
+            this.client = client;
+            this.signature = signature;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return client == other.client && signature.equals(other.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(client) + signature.hashCode();
+        }
+    }
+
+    private static final class Batch {
+        private final SearchReq template;
+        private final List<BaseVector> vectors = new ArrayList<>();
+        private final CompletableFuture<SearchResp> response = new CompletableFuture<>();
+        /**
+         * 发送者被中断导致的失败，仅抛给发送者
+         */
+        private volatile Throwable senderFailure;
+        private boolean closed;
+        private Thread leaderThread;
+        /**
+         * 发起者等待窗口期间被中断，仅由发起者线程读写
+         */
+        private boolean leaderInterrupted;
+
+        private Batch(SearchReq template) {
+            this.template = template;
+        }
+
+        /**
+         * 发起者等待窗口结束后关闭批次；窗口内被填满（由填满者发送）时提前返回 false。
+         * <p>
+         * 使用 parkNanos 等待以支持亚毫秒窗口（Object.wait 会把纳秒向上取整到毫秒）；
+         * 等待期间的中断先记录并清除，由调用方在发送结束后恢复。
+         */
+        private boolean awaitClose(Key key, long nanos) {
+            long deadline = System.nanoTime() + nanos;
+            while (true) {
+                long remaining;
+                synchronized (this) {
+                    if (closed) {
+                        return false;
+                    }
+                    remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        closed = true;
+                        OPEN.remove(key, this);
+                        return true;
+                    }
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    leaderInterrupted = true;
+                }
+            }
+        }
+
+        private void send(MilvusClientV2 client) {
+            List<BaseVector> data;
+            synchronized (this) {
+                data = new ArrayList<>(vectors);
+            }
+            // 模板请求属于发起者，发送期间临时替换查询向量，结束后还原以便发起者重试
+            List<BaseVector> original = template.getData();
+            SearchResp merged = null;
+            Throwable failure = null;
+            try {
+                template.setData(data);
+                SEARCHES.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Micro-batched {} searches on {}", data.size(), template.getCollectionName());
+                }
+                merged = client.search(template);
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                template.setData(original);
+            }
+            if (failure != null && Thread.currentThread().isInterrupted()) {
+                senderFailure = failure;
+                response.complete(null);
+            } else if (failure != null) {
+                response.completeExceptionally(failure);
+            } else {
+                response.complete(merged);
+            }
+        }
+
+        /**
+         * 合并检索的响应；发送者被中断时，对其他调用方返回 null，对发送者抛出其失败。
+         */
+        private SearchResp result(boolean sender) {
+            try {
+                SearchResp merged = response.get();
+                if (merged == null && sender) {
+                    Throwable failure = senderFailure;
+                    if (failure instanceof RuntimeException) {
+                        throw (RuntimeException) failure;
+                    }
+                    throw MilvusPlusException.wrap(failure);
+                }
+                return merged;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw MilvusPlusException.of("SEARCH_BATCH_INTERRUPTED", "Interrupted while waiting for batched search");
+            } catch (ExecutionException e) {
+                // 原样抛出 SDK 异常，保持调用方的重试判断
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw MilvusPlusException.wrap(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.v2.client.MilvusClientV2;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 请求去重（single-flight）：指纹相同的检索/查询同时在途时只发送一次，其余调用方等待并共享同一份响应。
+ * <p>
+ * 只合并同时在途的请求，请求结束即移除，不做缓存。构建器共享的是原始响应，各调用方从行的副本各自绑定实体。
+ * 发送者因自身被中断（异步接口超时或取消）而失败时，该失败只抛给发送者，等待中的调用方重新执行。
+ * 默认关闭（{@code milvus.single-flight=false}），启动时按 {@link MilvusProperties} 配置。
+ *
+ * @author xgc
+ **/
+public final class SingleFlight {
+
+    private static volatile boolean enabled;
+
+    private static final Map<Key, CompletableFuture<Object>> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final AtomicLong EXECUTED = new AtomicLong();
+    private static final AtomicLong COLLAPSED = new AtomicLong();
+    /**
+     * 发送者因自身中断而失败的标记，等待者收到后重新执行
+     */
+    private static final Object LEADER_INTERRUPTED = new Object();
+
+    private SingleFlight() {
+    }
+
+    public static void configure(MilvusProperties properties) {
+        enabled = properties.isSingleFlight();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * 实际发送的请求数。
+     */
+    public static long getExecutedCount() {
+        return EXECUTED.get();
+    }
+
+    /**
+     * 被合并到在途请求、未单独发送的请求数。
+     */
+    public static long getCollapsedCount() {
+        return COLLAPSED.get();
+    }
+
+    /**
+     * 当前在途的不同请求数。
+     */
+    public static int getInFlightCount() {
+        return IN_FLIGHT.size();
+    }
+
+    /**
+     * 执行请求；已有相同请求在途时等待其结果。
+     *
+     * @param client      客户端（按引用区分）
+     * @param fingerprint 请求指纹，见 {@link RequestFingerprint}
+     * @param variant     影响结果解码的其他条件（绑定器、延迟解码等），按 equals 比较
+     * @param call        实际请求
+     * @return 请求结果，合并时为在途请求的同一结果对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R execute(MilvusClientV2 client, String fingerprint, Object variant, Supplier<R> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        Key key = new Key(client, fingerprint, variant);
+        while (true) {
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> existing = IN_FLIGHT.putIfAbsent(key, mine);
+            if (existing == null) {
+                EXECUTED.incrementAndGet();
+                return lead(key, mine, call);
+            }
+            COLLAPSED.incrementAndGet();
+            Object result = await(existing);
+            if (result != LEADER_INTERRUPTED) {
+                return (R) result;
+            }
+            // 发送者被自身中断（超时/取消），其失败不代表请求本身失败：重新执行
+        }
+    }
+
+    private static <R> R lead(Key key, CompletableFuture<Object> mine, Supplier<R> call) {
+        R result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            IN_FLIGHT.remove(key, mine);
+            if (Thread.currentThread().isInterrupted()) {
+                mine.complete(LEADER_INTERRUPTED);
+            } else {
+                mine.completeExceptionally(e);
+            }
+            throw e;
+        }
+        IN_FLIGHT.remove(key, mine);
+        mine.complete(result);
+        return result;
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw MilvusPlusException.of("SINGLE_FLIGHT_INTERRUPTED", "Interrupted while waiting for in-flight request");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw MilvusPlusException.wrap(e.getCause());
+        }
+    }
+
+    private static final class Key {
+        private final MilvusClientV2 client;
+        private final String fingerprint;
+        private final Object variant;
+
+        private Key(MilvusClientV2 client, String fingerprint, Object variant) {
+            this.client = client;
+            this.fingerprint = fingerprint;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return client == other.client && fingerprint.equals(other.fingerprint) && Objects.equals(variant, other.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * System.identityHashCode(client) + fingerprint.hashCode()) * 31 + Objects.hashCode(variant);
+        }
+    }
+}
@@ -12,6 +12,10 @@ import org.dromara.milvus.plus.cache.ConversionCache;
 import org.dromara.milvus.plus.cache.MilvusCache;
 import org.dromara.milvus.plus.converter.MilvusConverter;
 import org.dromara.milvus.plus.core.conditions.*;
+import org.dromara.milvus.plus.core.writer.BulkWriterOptions;
+import org.dromara.milvus.plus.core.writer.CoalescerOptions;
+import org.dromara.milvus.plus.core.writer.MilvusBulkWriter;
+import org.dromara.milvus.plus.core.writer.WriteCoalescer;
 import org.dromara.milvus.plus.exception.MilvusPlusException;
 import org.dromara.milvus.plus.model.vo.MilvusResp;
 import org.dromara.milvus.plus.model.vo.MilvusResult;
@@ -21,6 +25,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author xgc
@@ -83,6 +88,34 @@ public abstract class BaseMilvusMapper<T> {
         return lambda(collectionName, new LambdaInsertWrapper<>());
     }
 
+    /**
+     * 创建异步批量写入器，使用默认配置。使用完毕需关闭。
+     */
+    public MilvusBulkWriter<T> bulkWriter() {
+        return bulkWriter(new BulkWriterOptions());
+    }
+
+    /**
+     * 创建异步批量写入器：逐行提交、合并发送，见 {@link MilvusBulkWriter}。使用完毕需关闭。
+     */
+    public MilvusBulkWriter<T> bulkWriter(BulkWriterOptions options) {
+        return new MilvusBulkWriter<>(this::insertWrapper, options);
+    }
+
+    /**
+     * 创建写合并器，使用默认配置。使用完毕需关闭。
+     */
+    public WriteCoalescer<T> writeCoalescer() {
+        return writeCoalescer(new CoalescerOptions());
+    }
+
+    /**
+     * 创建写合并器：合并窗口内同一主键的多次更新/删除只发送最后一次，见 {@link WriteCoalescer}。使用完毕需关闭。
+     */
+    public WriteCoalescer<T> writeCoalescer(CoalescerOptions options) {
+        return new WriteCoalescer<>(this::updateWrapper, this::deleteWrapper, options);
+    }
+
     /**
      * 绑定物理集合名，后续 CRUD 都落到该集合（线程内短生命周期使用，勿做单例共享可变状态）。
      */
@@ -137,6 +170,14 @@ public abstract class BaseMilvusMapper<T> {
         LambdaInsertWrapper<T> lambda = insertWrapper();
         return lambda.insert(entity.iterator());
     }
+
+    /**
+     * 流式写入，分块编码与发送流水线进行，不物化全部数据。
+     */
+    public MilvusResp<InsertResp> insert(Stream<T> entity){
+        LambdaInsertWrapper<T> lambda = insertWrapper();
+        return lambda.insert(entity);
+    }
     public MilvusResp<UpsertResp> updateById(T... entity) {
         LambdaUpdateWrapper<T> lambda = updateWrapper();
         return lambda.updateById(entity);
@@ -248,10 +289,22 @@ public abstract class BaseMilvusMapper<T> {
             return insertWrapper().insert(entity);
         }
 
+        public MilvusBulkWriter<T> bulkWriter(BulkWriterOptions options) {
+            return new MilvusBulkWriter<>(this::insertWrapper, options);
+        }
+
+        public WriteCoalescer<T> writeCoalescer(CoalescerOptions options) {
+            return new WriteCoalescer<>(this::updateWrapper, this::deleteWrapper, options);
+        }
+
         public MilvusResp<InsertResp> insert(Collection<T> entity) {
             return insertWrapper().insert(entity.iterator());
         }
 
+        public MilvusResp<InsertResp> insert(Stream<T> entity) {
+            return insertWrapper().insert(entity);
+        }
+
         public MilvusResp<UpsertResp> updateById(T... entity) {
             return updateWrapper().updateById(entity);
         }
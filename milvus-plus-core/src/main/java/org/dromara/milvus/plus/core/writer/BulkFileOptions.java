@@ -0,0 +1,37 @@
+package org.dromara.milvus.plus.core.writer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 离线导入文件写入器配置。
+ *
+ * @author xgc
+ **/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkFileOptions {
+    /**
+     * 单个文件字节上限，超过即滚动到新文件（单行超过上限时独占一个文件）
+     */
+    @Builder.Default
+    private long maxFileBytes = 256L * 1024 * 1024;
+    /**
+     * 写入线程数，每个线程独立编码并写入自己的文件序列
+     */
+    @Builder.Default
+    private int writerThreads = 2;
+    /**
+     * 每个写入线程的待写队列长度，已满时 add 阻塞（背压）
+     */
+    @Builder.Default
+    private int queueCapacity = 1024;
+    /**
+     * 文件名前缀，为空时使用集合名称
+     */
+    private String filePrefix;
+}
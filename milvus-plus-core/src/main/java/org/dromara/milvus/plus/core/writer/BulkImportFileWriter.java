@@ -0,0 +1,355 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.milvus.v2.service.collection.request.AddFieldReq;
+import io.milvus.v2.service.collection.request.CreateCollectionReq;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.MilvusCache;
+import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.dromara.milvus.plus.converter.binder.EntityEncoder;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusEntity;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 离线导入文件写入器：按实体注解生成的集合结构，将实体写为 Milvus 批量导入（bulk import）可直接使用的 JSON 文件。
+ * <p>
+ * 文件格式为根节点是数组的 JSON（每个元素一行）：包含主键（autoID 时由客户端生成）与全部已映射字段；
+ * 开启动态字段时，未在结构中声明的属性写入 {@code $meta}；BM25 函数的输出字段（{@code <字段>_sparse}）由服务端生成，不写入文件。
+ * <p>
+ * 实体按轮询分发给多个写入线程，每个线程独立编码并写入自己的文件序列，文件超过 {@link BulkFileOptions#getMaxFileBytes()} 时滚动。
+ * 文件名为 {@code <前缀>-<线程序号>-<文件序号>.json}。写入完成后需将文件上传到 Milvus 使用的对象存储，
+ * 再通过 {@link org.dromara.milvus.plus.service.ICMService#submitImport} 提交导入任务。
+ * <p>
+ * add 线程安全；使用完毕需 {@link #finish()} 或 {@link #close()}。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class BulkImportFileWriter<T> implements AutoCloseable {
+
+    private static final String DYNAMIC_FIELD = "$meta";
+    private static final Object END = new Object();
+    private static final byte[] FILE_START = "[\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROW_SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FILE_END = "\n]\n".getBytes(StandardCharsets.UTF_8);
+    private static final AtomicInteger WRITER_SEQ = new AtomicInteger();
+
+    private final Path directory;
+    private final BulkFileOptions options;
+    private final String prefix;
+    private final EntityEncoder<T> encoder;
+    private final String primaryKey;
+    private final Set<String> schemaFields = new HashSet<>();
+    private final Set<String> functionOutputs = new HashSet<>();
+    private final boolean enableDynamicField;
+    private final List<Worker> workers;
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    /**
+     * 以下两项由 this 保护：finish 置 closed 后等待进行中的 add 入队完成，再投递结束标记
+     */
+    private boolean closed;
+    private int adding;
+    private List<Path> files;
+
+    public BulkImportFileWriter(Class<T> entityType, Path directory) {
+        this(entityType, directory, new BulkFileOptions());
+    }
+
+    /**
+     * @param entityType 实体类（需标注 MilvusCollection）
+     * @param directory  输出目录，不存在时创建
+     * @param options    配置
+     */
+    @SuppressWarnings("unchecked")
+    public BulkImportFileWriter(Class<T> entityType, Path directory, BulkFileOptions options) {
+        if (options.getMaxFileBytes() < 1 || options.getWriterThreads() < 1 || options.getQueueCapacity() < 1) {
+            throw MilvusPlusException.of("BULK_FILE_OPTIONS_INVALID", "maxFileBytes, writerThreads and queueCapacity must be positive");
+        }
+        MilvusEntity milvusEntity = MilvusConverter.convert(entityType);
+        ConversionCache conversionCache = MilvusCache.milvusCache.get(entityType.getName());
+        this.encoder = (EntityEncoder<T>) conversionCache.getEntityEncoder();
+        this.directory = directory;
+        this.options = options;
+        this.prefix = StringUtils.isNotEmpty(options.getFilePrefix()) ? options.getFilePrefix() : milvusEntity.getCollectionName();
+        this.enableDynamicField = Boolean.TRUE.equals(milvusEntity.getEnableDynamicField());
+        if (milvusEntity.getFunctions() != null) {
+            for (CreateCollectionReq.Function function : milvusEntity.getFunctions()) {
+                functionOutputs.addAll(function.getOutputFieldNames());
+            }
+        }
+        String pk = null;
+        for (AddFieldReq field : milvusEntity.getMilvusFields()) {
+            schemaFields.add(field.getFieldName());
+            if (Boolean.TRUE.equals(field.getIsPrimaryKey())) {
+                pk = field.getFieldName();
+            }
+        }
+        this.primaryKey = pk;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new MilvusPlusException("BULK_FILE_IO", "Failed to create directory " + directory, e);
+        }
+        int writerId = WRITER_SEQ.incrementAndGet();
+        this.workers = new ArrayList<>(options.getWriterThreads());
+        for (int i = 0; i < options.getWriterThreads(); i++) {
+            Worker worker = new Worker(i);
+            Thread thread = new Thread(worker, "milvus-plus-bulk-file-" + writerId + "-" + i);
+            thread.setDaemon(true);
+            worker.thread = thread;
+            workers.add(worker);
+            thread.start();
+        }
+    }
+
+    /**
+     * 写入一个实体；写入线程队列已满时阻塞。
+     *
+     * @param entity 实体
+     */
+    public void add(T entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("entity must not be null");
+        }
+        synchronized (this) {
+            if (closed) {
+                throw MilvusPlusException.of("BULK_WRITER_CLOSED", "Bulk file writer is closed");
+            }
+            adding++;
+        }
+        try {
+            Worker worker = workers.get((int) (dispatched.getAndIncrement() % workers.size()));
+            try {
+                while (!worker.queue.offer(entity, 100L, TimeUnit.MILLISECONDS)) {
+                    checkFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw MilvusPlusException.of("BULK_WRITER_INTERRUPTED", "Interrupted while writing bulk import file");
+            }
+            accepted.incrementAndGet();
+        } finally {
+            synchronized (this) {
+                adding--;
+                notifyAll();
+            }
+        }
+        checkFailure();
+    }
+
+    public void addAll(Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            add(entity);
+        }
+    }
+
+    /**
+     * 已进入写入队列的行数。
+     */
+    public long rowCount() {
+        return accepted.get();
+    }
+
+    /**
+     * 结束写入：等待写入线程写完并关闭全部文件。
+     *
+     * @return 生成的文件，按写入线程与文件序号排序
+     */
+    public synchronized List<Path> finish() {
+        if (files != null) {
+            return files;
+        }
+        closed = true;
+        boolean interrupted = false;
+        // 等待进行中的 add 入队，结束标记之后不再有行
+        while (adding > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (Worker worker : workers) {
+            // 已失败退出的线程不再消费队列，跳过
+            while (worker.thread.isAlive()) {
+                try {
+                    if (worker.queue.offer(END, 100L, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        for (Worker worker : workers) {
+            while (true) {
+                try {
+                    worker.thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        List<Path> result = new ArrayList<>();
+        for (Worker worker : workers) {
+            result.addAll(worker.files);
+        }
+        files = Collections.unmodifiableList(result);
+        checkFailure();
+        return files;
+    }
+
+    /**
+     * 生成导入任务的 files 参数：JSON 格式每个文件单独一组。
+     *
+     * @param remotePrefix 文件上传到对象存储后的路径前缀（相对于桶），例如 {@code bulk/2024-01-01/}
+     * @return 导入文件分组
+     */
+    public List<List<String>> importFiles(String remotePrefix) {
+        String base = remotePrefix == null ? "" : remotePrefix;
+        List<List<String>> groups = new ArrayList<>();
+        for (Path file : finish()) {
+            groups.add(Collections.singletonList(base + file.getFileName().toString()));
+        }
+        return groups;
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    private void checkFailure() {
+        Throwable e = failure.get();
+        if (e != null) {
+            throw e instanceof IOException
+                    ? new MilvusPlusException("BULK_FILE_IO", "Failed to write bulk import file: " + e.getMessage(), e)
+                    : MilvusPlusException.wrap(e);
+        }
+    }
+
+    /**
+     * 编码一行：去掉函数输出字段，动态属性并入 $meta。
+     */
+    private JsonObject encode(T entity) {
+        JsonObject row = encoder.encodeInsert(entity, primaryKey);
+        for (String output : functionOutputs) {
+            row.remove(output);
+        }
+        if (enableDynamicField) {
+            JsonObject meta = null;
+            for (String key : new ArrayList<>(row.keySet())) {
+                if (schemaFields.contains(key) || DYNAMIC_FIELD.equals(key)) {
+                    continue;
+                }
+                if (meta == null) {
+                    meta = new JsonObject();
+                }
+                JsonElement value = row.remove(key);
+                meta.add(key, value);
+            }
+            if (meta != null) {
+                row.add(DYNAMIC_FIELD, meta);
+            }
+        }
+        return row;
+    }
+
+    private final class Worker implements Runnable {
+        private final int index;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        private final List<Path> files = new ArrayList<>();
+        private Thread thread;
+        private OutputStream out;
+        private long fileBytes;
+        private long fileRows;
+
+        private Worker(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == END) {
+                        break;
+                    }
+                    if (failure.get() == null) {
+                        write(encode((T) item).toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                closeFile();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                queue.clear();
+                closeQuietly();
+            }
+        }
+
+        private void write(byte[] row) throws IOException {
+            if (out != null && fileRows > 0
+                    && fileBytes + ROW_SEPARATOR.length + row.length + FILE_END.length > options.getMaxFileBytes()) {
+                closeFile();
+            }
+            if (out == null) {
+                Path file = directory.resolve(prefix + "-" + index + "-" + files.size() + ".json");
+                out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+                files.add(file);
+                out.write(FILE_START);
+                fileBytes = FILE_START.length;
+                fileRows = 0;
+            }
+            if (fileRows > 0) {
+                out.write(ROW_SEPARATOR);
+                fileBytes += ROW_SEPARATOR.length;
+            }
+            out.write(row);
+            fileBytes += row.length;
+            fileRows++;
+        }
+
+        private void closeFile() throws IOException {
+            if (out == null) {
+                return;
+            }
+            OutputStream stream = out;
+            out = null;
+            stream.write(FILE_END);
+            stream.close();
+        }
+
+        private void closeQuietly() {
+            try {
+                closeFile();
+            } catch (IOException e) {
+                log.warn("Failed to close bulk import file: {}", e.toString());
+            }
+        }
+    }
+}
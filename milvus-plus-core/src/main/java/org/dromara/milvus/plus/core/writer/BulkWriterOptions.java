@@ -0,0 +1,38 @@
+package org.dromara.milvus.plus.core.writer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量写入器配置。
+ *
+ * @author xgc
+ **/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkWriterOptions {
+    /**
+     * 单批最大行数，达到即发送
+     */
+    @Builder.Default
+    private int maxRows = 1000;
+    /**
+     * 单批估算字节上限，达到即发送（需低于 gRPC 最大消息大小）
+     */
+    @Builder.Default
+    private long maxBytes = 8L * 1024 * 1024;
+    /**
+     * 最长等待时间（毫秒），未满的批次超过该时间也会发送
+     */
+    @Builder.Default
+    private long lingerMillis = 50L;
+    /**
+     * 同时进行中的写入请求数，已满时 add 阻塞（背压）
+     */
+    @Builder.Default
+    private int maxInFlight = 4;
+}
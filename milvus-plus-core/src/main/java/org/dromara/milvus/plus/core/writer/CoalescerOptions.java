@@ -0,0 +1,33 @@
+package org.dromara.milvus.plus.core.writer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 写合并器配置。
+ *
+ * @author xgc
+ **/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescerOptions {
+    /**
+     * 合并窗口（毫秒）：窗口内对同一主键的多次写入合并为一次
+     */
+    @Builder.Default
+    private long windowMillis = 50L;
+    /**
+     * 待写主键数上限，达到即提前刷新
+     */
+    @Builder.Default
+    private int maxPendingKeys = 10_000;
+    /**
+     * 部分更新：同一主键的多次更新按字段合并（后写覆盖），刷新时以 partial 方式更新；否则整行后写覆盖
+     */
+    @Builder.Default
+    private boolean partial = false;
+}
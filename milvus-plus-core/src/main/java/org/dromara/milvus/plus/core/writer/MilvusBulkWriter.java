@@ -0,0 +1,300 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonObject;
+import io.milvus.v2.service.vector.response.InsertResp;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.core.conditions.LambdaInsertWrapper;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步批量写入器：逐行提交，按分区缓冲，达到行数、估算字节数或等待时间后合并为一次 insert。
+ * <p>
+ * 行在调用线程编码；同时进行中的请求数受 {@link BulkWriterOptions#getMaxInFlight()} 限制，已满时提交方阻塞。
+ * 每行返回一个 Future，写入成功后完成为服务端返回的主键，失败时整批异常完成。
+ * 线程安全；使用完毕需 {@link #close()}，关闭时发送剩余数据并等待进行中的请求结束。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class MilvusBulkWriter<T> implements AutoCloseable {
+
+    private static final AtomicInteger WRITER_SEQ = new AtomicInteger();
+
+    private final Supplier<LambdaInsertWrapper<T>> wrapperFactory;
+    private final LambdaInsertWrapper<T> encoder;
+    private final RowSizeEstimator estimator;
+    private final BulkWriterOptions options;
+    private final Semaphore inFlight;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService timer;
+    private final Map<String, Batch> buffers = new HashMap<>();
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    /**
+     * 已从缓冲取出、尚未登记到 pending 的批次数，关闭时等待其归零，避免漏等
+     */
+    private int dispatching;
+    private boolean closed;
+
+    /**
+     * @param wrapperFactory 新增构建器工厂（绑定集合），一般由 BaseMilvusMapper 提供
+     * @param options        配置
+     */
+    public MilvusBulkWriter(Supplier<LambdaInsertWrapper<T>> wrapperFactory, BulkWriterOptions options) {
+        if (options.getMaxRows() < 1 || options.getMaxBytes() < 1 || options.getMaxInFlight() < 1) {
+            throw MilvusPlusException.of("BULK_WRITER_OPTIONS_INVALID", "maxRows, maxBytes and maxInFlight must be positive");
+        }
+        this.wrapperFactory = wrapperFactory;
+        this.encoder = wrapperFactory.get();
+        this.estimator = encoder.rowSizeEstimator();
+        this.options = options;
+        this.inFlight = new Semaphore(options.getMaxInFlight());
+        int writerId = WRITER_SEQ.incrementAndGet();
+        this.sender = Executors.newFixedThreadPool(options.getMaxInFlight(), daemon("milvus-plus-bulk-" + writerId + "-"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemon("milvus-plus-bulk-linger-" + writerId + "-"));
+        long tick = Math.max(1L, options.getLingerMillis());
+        this.timer.scheduleWithFixedDelay(this::flushExpired, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 写入默认分区。
+     *
+     * @param entity 实体
+     * @return 完成为该行主键的 Future
+     */
+    public CompletableFuture<Object> add(T entity) {
+        return add(entity, null);
+    }
+
+    /**
+     * 写入指定分区。
+     *
+     * @param entity        实体
+     * @param partitionName 分区名称，为空时写入默认分区
+     * @return 完成为该行主键的 Future
+     */
+    public CompletableFuture<Object> add(T entity, String partitionName) {
+        JsonObject row = encoder.encode(entity);
+        long size = estimator.estimate(row);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        String key = StringUtils.defaultString(partitionName);
+        Batch ready = null;
+        synchronized (this) {
+            // 与 close() 在同一把锁下检查并入队：关闭后的最终刷新不会漏掉已接受的行
+            if (closed) {
+                throw MilvusPlusException.of("BULK_WRITER_CLOSED", "Bulk writer is closed");
+            }
+            Batch batch = buffers.get(key);
+            // 加入后超出字节上限时先发送已缓冲的行
+            if (batch != null && batch.bytes + size > options.getMaxBytes()) {
+                ready = buffers.remove(key);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch(key);
+                buffers.put(key, batch);
+            }
+            batch.add(row, size, future);
+            if (ready == null && (batch.rows.size() >= options.getMaxRows() || batch.bytes >= options.getMaxBytes())) {
+                ready = buffers.remove(key);
+            }
+            if (ready != null) {
+                dispatching++;
+            }
+        }
+        if (ready != null) {
+            dispatchTaken(Collections.singletonList(ready));
+        }
+        return future;
+    }
+
+    /**
+     * 立即发送全部缓冲数据。
+     *
+     * @return 当前所有进行中的请求完成后完成
+     */
+    public CompletableFuture<Void> flush() {
+        List<Batch> ready;
+        synchronized (this) {
+            ready = new ArrayList<>(buffers.values());
+            buffers.clear();
+            dispatching += ready.size();
+        }
+        dispatchTaken(ready);
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]));
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        timer.shutdown();
+        try {
+            // 等待进行中的定时发送结束，避免漏发
+            timer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+            awaitDispatched();
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 失败已通过各行的 Future 反馈
+            log.warn("Bulk writer closed with failed batches: {}", e.getCause() == null ? e.toString() : e.getCause().toString());
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    private void flushExpired() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(options.getLingerMillis());
+        List<Batch> ready = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Batch> iterator = buffers.values().iterator();
+            while (iterator.hasNext()) {
+                Batch batch = iterator.next();
+                if (batch.createdNanos - deadline <= 0) {
+                    ready.add(batch);
+                    iterator.remove();
+                }
+            }
+            dispatching += ready.size();
+        }
+        try {
+            dispatchTaken(ready);
+        } catch (RuntimeException e) {
+            // 失败已通过各行的 Future 反馈
+            log.warn("Bulk writer linger flush failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 发送已从缓冲取出（并已计入 dispatching）的批次。
+     */
+    private void dispatchTaken(List<Batch> batches) {
+        RuntimeException failure = null;
+        for (Batch batch : batches) {
+            try {
+                if (failure == null) {
+                    dispatch(batch);
+                } else {
+                    batch.fail(failure);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                dispatched();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized void dispatched() {
+        dispatching--;
+        notifyAll();
+    }
+
+    private synchronized void awaitDispatched() {
+        boolean interrupted = false;
+        while (dispatching > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 获取在途许可（已满时阻塞）后异步发送。
+     */
+    private void dispatch(Batch batch) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            MilvusPlusException failure = MilvusPlusException.of("BULK_WRITER_INTERRUPTED", "Interrupted while waiting for in-flight requests");
+            batch.fail(failure);
+            throw failure;
+        }
+        CompletableFuture<Void> task;
+        try {
+            task = CompletableFuture.runAsync(() -> send(batch), sender);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            batch.fail(e);
+            return;
+        }
+        pending.add(task);
+        task.whenComplete((v, e) -> {
+            pending.remove(task);
+            inFlight.release();
+        });
+    }
+
+    private void send(Batch batch) {
+        try {
+            LambdaInsertWrapper<T> wrapper = wrapperFactory.get();
+            if (StringUtils.isNotEmpty(batch.partitionName)) {
+                wrapper.partition(batch.partitionName);
+            }
+            InsertResp resp = wrapper.insertRows(batch.rows).getData();
+            List<Object> ids = resp == null ? null : resp.getPrimaryKeys();
+            for (int i = 0; i < batch.futures.size(); i++) {
+                batch.futures.get(i).complete(ids != null && i < ids.size() ? ids.get(i) : null);
+            }
+        } catch (Throwable e) {
+            batch.fail(e);
+            throw e;
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Batch {
+        private final String partitionName;
+        private final long createdNanos = System.nanoTime();
+        private final List<JsonObject> rows = new ArrayList<>();
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        private long bytes;
+
+        private Batch(String partitionName) {
+            this.partitionName = partitionName;
+        }
+
+        private void add(JsonObject row, long size, CompletableFuture<Object> future) {
+            rows.add(row);
+            futures.add(future);
+            bytes += size;
+        }
+
+        private void fail(Throwable e) {
+            for (CompletableFuture<Object> future : futures) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
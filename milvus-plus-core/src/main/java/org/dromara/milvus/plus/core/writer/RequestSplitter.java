@@ -0,0 +1,255 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonObject;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 写入请求拆分：按估算字节数将 insert/upsert 行拆分为多个请求，并以有限并发发送。
+ * <p>
+ * 调用线程发送第一块，其余交给写入线程池；任一块失败时在全部块结束后抛出第一个异常，此时其余块可能已写入。
+ * 已在写入线程上的嵌套调用在当前线程依次发送，不再占用线程池，避免线程池被等待中的任务占满而死锁。
+ * 分块读取（getById、更新前回查旧行）使用独立的有界读取线程池（{@link #executeReads}），不在批量写入之后排队。
+ * 启动时按 {@link MilvusProperties} 配置。
+ *
+ * @author xgc
+ **/
+public final class RequestSplitter {
+
+    /**
+     * 默认单个请求字节预算，低于 Milvus 默认 64MB 的 gRPC 消息上限
+     */
+    public static final long DEFAULT_MAX_REQUEST_BYTES = 16L * 1024 * 1024;
+    /**
+     * 默认并发请求数
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+    /**
+     * 标记写入/读取线程池的线程
+     */
+    private static final ThreadLocal<Boolean> ON_POOL = new ThreadLocal<>();
+
+    private static volatile long maxRequestBytes = DEFAULT_MAX_REQUEST_BYTES;
+    private static volatile int parallelism = DEFAULT_PARALLELISM;
+    private static volatile ExecutorService executor;
+    private static volatile ExecutorService readExecutor;
+
+    private RequestSplitter() {
+    }
+
+    public static void configure(MilvusProperties properties) {
+        maxRequestBytes = Math.max(1L, properties.getWriteRequestBytes());
+        synchronized (RequestSplitter.class) {
+            parallelism = Math.max(1, properties.getWriteParallelism());
+            ExecutorService previous = executor;
+            ExecutorService previousRead = readExecutor;
+            executor = null;
+            readExecutor = null;
+            if (previous != null) {
+                previous.shutdown();
+            }
+            if (previousRead != null) {
+                previousRead.shutdown();
+            }
+        }
+    }
+
+    public static long getMaxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    public static int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 按字节预算拆分，保持行顺序；单行超出预算时独占一块。
+     *
+     * @param rows      行数据
+     * @param estimator 行大小估算
+     * @param budget    单块字节预算
+     * @return 拆分结果，不超预算时为仅含原列表的单元素列表
+     */
+    public static List<List<JsonObject>> split(List<JsonObject> rows, RowSizeEstimator estimator, long budget) {
+        List<List<JsonObject>> chunks = new ArrayList<>();
+        int from = 0;
+        long bytes = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            long size = estimator.estimate(rows.get(i));
+            if (i > from && bytes + size > budget) {
+                chunks.add(rows.subList(from, i));
+                from = i;
+                bytes = 0;
+            }
+            bytes += size;
+        }
+        if (from == 0) {
+            chunks.add(rows);
+        } else if (from < rows.size()) {
+            chunks.add(rows.subList(from, rows.size()));
+        }
+        return chunks;
+    }
+
+    /**
+     * 以有限并发发送各块，结果与块一一对应。
+     *
+     * @param chunks 拆分后的行（或其他请求分块，如主键分块）
+     * @param sender 单块发送函数
+     * @return 各块结果，无分块时为空列表
+     */
+    public static <C, R> List<R> execute(List<C> chunks, Function<? super C, ? extends R> sender) {
+        return execute(chunks, sender, false);
+    }
+
+    /**
+     * 与 {@link #execute} 相同，但使用读取线程池：读取不在写入线程池的队列中等待；读取线程池队列已满时在调用线程发送。
+     *
+     * @param chunks 请求分块（如主键分块）
+     * @param sender 单块读取函数
+     * @return 各块结果，无分块时为空列表
+     */
+    public static <C, R> List<R> executeReads(List<C> chunks, Function<? super C, ? extends R> sender) {
+        return execute(chunks, sender, true);
+    }
+
+    private static <C, R> List<R> execute(List<C> chunks, Function<? super C, ? extends R> sender, boolean read) {
+        if (chunks.size() <= 1 || onPool()) {
+            List<R> results = new ArrayList<>(chunks.size());
+            for (C chunk : chunks) {
+                results.add(sender.apply(chunk));
+            }
+            return results;
+        }
+        ExecutorService pool = read ? readExecutor() : executor();
+        int permits = parallelism;
+        Semaphore semaphore = new Semaphore(Math.max(0, permits - 1));
+        List<Future<R>> futures = new ArrayList<>(chunks.size());
+        futures.add(null);
+        RuntimeException failure = null;
+        R first = null;
+        try {
+            for (int i = 1; i < chunks.size(); i++) {
+                C chunk = chunks.get(i);
+                if (!semaphore.tryAcquire()) {
+                    // 并发已满：在调用线程发送
+                    futures.add(CompletableFuture.completedFuture(sender.apply(chunk)));
+                    continue;
+                }
+                futures.add(pool.submit(() -> {
+                    try {
+                        return sender.apply(chunk);
+                    } finally {
+                        semaphore.release();
+                    }
+                }));
+            }
+            first = sender.apply(chunks.get(0));
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        List<R> results = new ArrayList<>(chunks.size());
+        results.add(first);
+        for (int i = 1; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw MilvusPlusException.of("WRITE_INTERRUPTED", "Interrupted while waiting for write requests");
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = MilvusPlusException.wrap(e.getCause());
+                }
+                results.add(null);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * 在写入线程池异步发送单个请求（流式写入时调用线程继续编码下一块）；并发深度由调用方控制。
+     *
+     * @param sender 请求发送
+     * @return 请求结果
+     */
+    public static <R> CompletableFuture<R> submit(Supplier<R> sender) {
+        if (onPool()) {
+            CompletableFuture<R> future = new CompletableFuture<>();
+            try {
+                future.complete(sender.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        return CompletableFuture.supplyAsync(sender, executor());
+    }
+
+    private static boolean onPool() {
+        return Boolean.TRUE.equals(ON_POOL.get());
+    }
+
+    private static ExecutorService readExecutor() {
+        ExecutorService current = readExecutor;
+        if (current == null) {
+            synchronized (RequestSplitter.class) {
+                current = readExecutor;
+                if (current == null) {
+                    int threads = Math.max(1, parallelism - 1);
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(threads * 4), poolThreads("milvus-plus-read-"),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    pool.allowCoreThreadTimeOut(true);
+                    current = pool;
+                    readExecutor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 池内线程标记为写入/读取线程，嵌套调用在当前线程执行
+     */
+    private static ThreadFactory poolThreads(String prefix) {
+        return r -> {
+            Thread thread = new Thread(() -> {
+                ON_POOL.set(Boolean.TRUE);
+                r.run();
+            }, prefix + THREAD_SEQ.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (RequestSplitter.class) {
+                current = executor;
+                if (current == null) {
+                    int threads = Math.max(1, parallelism - 1);
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), poolThreads("milvus-plus-write-"));
+                    pool.allowCoreThreadTimeOut(true);
+                    current = pool;
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,298 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.milvus.exception.MilvusException;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
+import org.dromara.milvus.plus.core.conditions.LambdaDeleteWrapper;
+import org.dromara.milvus.plus.core.conditions.LambdaUpdateWrapper;
+import org.dromara.milvus.plus.core.conditions.PrimaryKeys;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 写合并器：在合并窗口内把对同一主键的多次 upsert/delete 合并为一次，按主键后写覆盖，再批量刷新。
+ * <p>
+ * 合并规则：upsert 按字段合并到此前的 upsert，后写的字段覆盖先写的；delete 覆盖此前的 upsert；
+ * delete 之后的 upsert 保留“先删后写”，刷新时先删除再更新（整行更新会为缺失字段回查旧行，不删除会写回旧值）。每次刷新先发送删除再发送更新，
+ * 刷新在单个线程上串行执行，前后窗口之间保持写入顺序。
+ * <p>
+ * 每次写入返回一个 Future，所在批次写入成功后完成，失败时异常完成。线程安全；使用完毕需 {@link #close()}。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class WriteCoalescer<T> implements AutoCloseable {
+
+    private static final AtomicInteger COALESCER_SEQ = new AtomicInteger();
+
+    private final Supplier<LambdaUpdateWrapper<T>> updateFactory;
+    private final Supplier<LambdaDeleteWrapper<T>> deleteFactory;
+    private final LambdaUpdateWrapper<T> encoder;
+    private final String primaryKey;
+    private final CoalescerOptions options;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService timer;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private Map<String, Op> pending = new LinkedHashMap<>();
+    private long windowStart;
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+    private volatile boolean closed;
+
+    /**
+     * @param updateFactory 更新构建器工厂（绑定集合），一般由 BaseMilvusMapper 提供
+     * @param deleteFactory 删除构建器工厂（绑定集合）
+     * @param options       配置
+     */
+    public WriteCoalescer(Supplier<LambdaUpdateWrapper<T>> updateFactory, Supplier<LambdaDeleteWrapper<T>> deleteFactory,
+                          CoalescerOptions options) {
+        if (options.getWindowMillis() < 1 || options.getMaxPendingKeys() < 1) {
+            throw MilvusPlusException.of("COALESCER_OPTIONS_INVALID", "windowMillis and maxPendingKeys must be positive");
+        }
+        this.updateFactory = updateFactory;
+        this.deleteFactory = deleteFactory;
+        this.encoder = updateFactory.get();
+        this.primaryKey = CollectionToPrimaryCache.collectionToPrimary.get(encoder.getCollectionName());
+        this.options = options;
+        int id = COALESCER_SEQ.incrementAndGet();
+        this.sender = Executors.newSingleThreadExecutor(daemon("milvus-plus-coalesce-" + id + "-"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemon("milvus-plus-coalesce-window-" + id + "-"));
+        long tick = Math.max(1L, options.getWindowMillis() / 2);
+        this.timer.scheduleWithFixedDelay(this::flushExpired, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 按主键写入（upsert）实体。
+     *
+     * @param entity 实体，必须包含主键
+     * @return 所在批次写入完成的 Future
+     */
+    public CompletableFuture<Void> upsert(T entity) {
+        JsonObject row = encoder.encode(entity);
+        JsonElement id = row.get(primaryKey);
+        if (id == null || id.isJsonNull()) {
+            throw new MilvusException("not find primary key", 400);
+        }
+        Object value = id.getAsJsonPrimitive().isNumber() ? (Object) id.getAsLong() : id.getAsString();
+        return submit(PrimaryKeys.key(id), value, row);
+    }
+
+    /**
+     * 按主键删除。
+     *
+     * @param id 主键
+     * @return 所在批次删除完成的 Future
+     */
+    public CompletableFuture<Void> delete(Object id) {
+        String key = PrimaryKeys.key(id);
+        if (key == null) {
+            throw new IllegalArgumentException("id must not be null");
+        }
+        return submit(key, id, null);
+    }
+
+    private CompletableFuture<Void> submit(String key, Object id, JsonObject row) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        boolean full;
+        synchronized (this) {
+            if (closed) {
+                throw MilvusPlusException.of("COALESCER_CLOSED", "Write coalescer is closed");
+            }
+            submitted.incrementAndGet();
+            if (pending.isEmpty()) {
+                windowStart = System.currentTimeMillis();
+            }
+            Op op = pending.get(key);
+            if (op == null) {
+                op = new Op(id);
+                pending.put(key, op);
+            } else {
+                coalesced.incrementAndGet();
+            }
+            op.apply(row);
+            op.waiters.add(future);
+            full = pending.size() >= options.getMaxPendingKeys();
+        }
+        if (full) {
+            flush();
+        }
+        return future;
+    }
+
+    /**
+     * 立即刷新当前窗口。
+     *
+     * @return 本次刷新（及此前全部刷新）完成的 Future
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        if (pending.isEmpty()) {
+            return lastFlush;
+        }
+        Map<String, Op> batch = pending;
+        pending = new LinkedHashMap<>();
+        CompletableFuture<Void> done = CompletableFuture.runAsync(() -> send(batch), sender);
+        lastFlush = done;
+        return done;
+    }
+
+    private void flushExpired() {
+        try {
+            boolean expired;
+            synchronized (this) {
+                expired = !pending.isEmpty() && System.currentTimeMillis() - windowStart >= options.getWindowMillis();
+            }
+            if (expired) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.warn("Write coalescer flush failed: {}", e.toString());
+        }
+    }
+
+    private void send(Map<String, Op> batch) {
+        List<Object> deletes = new ArrayList<>();
+        List<JsonObject> upserts = new ArrayList<>();
+        for (Op op : batch.values()) {
+            if (op.deleteFirst || op.row == null) {
+                deletes.add(op.id);
+            }
+            if (op.row != null) {
+                upserts.add(op.row);
+            }
+        }
+        // 先删后写；删除失败时整批不再写入，避免顺序颠倒
+        Throwable failure = null;
+        try {
+            if (!deletes.isEmpty()) {
+                deleteFactory.get().id(deletes).remove();
+                flushedRows.addAndGet(deletes.size());
+            }
+            if (!upserts.isEmpty()) {
+                updateFactory.get().partial(options.isPartial()).updateRows(upserts);
+                flushedRows.addAndGet(upserts.size());
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+        for (Op op : batch.values()) {
+            if (failure == null) {
+                op.complete();
+            } else {
+                op.fail(failure);
+            }
+        }
+        if (failure != null) {
+            log.warn("Write coalescer flush of {} keys failed: {}", batch.size(), failure.toString());
+        }
+    }
+
+    /**
+     * 提交的写入次数。
+     */
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    /**
+     * 被合并（未单独发送）的写入次数。
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * 实际发送的行数（删除主键数 + 更新行数）。
+     */
+    public long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    /**
+     * 关闭：停止窗口计时，刷新剩余写入并等待全部刷新结束。
+     */
+    @Override
+    public void close() {
+        CompletableFuture<Void> last;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        timer.shutdownNow();
+        last = flush();
+        try {
+            last.join();
+        } catch (CompletionException e) {
+            // 失败已通过各写入的 Future 传递
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 单个主键在当前窗口内的最终操作。
+     */
+    private static final class Op {
+        private final Object id;
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+        /**
+         * 最终行，null 表示删除
+         */
+        private JsonObject row;
+        private boolean deleted;
+        private boolean deleteFirst;
+
+        private Op(Object id) {
+            this.id = id;
+        }
+
+        private void apply(JsonObject update) {
+            if (update == null) {
+                row = null;
+                deleted = true;
+                deleteFirst = false;
+                return;
+            }
+            if (row == null) {
+                // 两种模式都先删再写：partial 与整行更新都会回查旧行补齐缺失字段，不删除会写回删除前的值
+                deleteFirst = deleted;
+                row = update.deepCopy();
+            } else {
+                // 两种模式都按字段合并：编码时省略 null 属性，整行替换会丢失前一次写入的字段
+                for (Map.Entry<String, JsonElement> entry : update.entrySet()) {
+                    row.add(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        private void complete() {
+            for (CompletableFuture<Void> waiter : waiters) {
+                waiter.complete(null);
+            }
+        }
+
+        private void fail(Throwable e) {
+            for (CompletableFuture<Void> waiter : waiters) {
+                waiter.completeExceptionally(e);
+            }
+        }
+    }
+}
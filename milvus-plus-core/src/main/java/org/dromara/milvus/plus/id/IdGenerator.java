@@ -0,0 +1,31 @@
+package org.dromara.milvus.plus.id;
+
+/**
+ * 主键生成器：实体字段声明 autoID 时，由客户端在写入前生成 Int64 主键。
+ * <p>
+ * 实现必须线程安全，且同一集合的多个客户端实例之间不能生成重复 ID。
+ * 默认实现见 {@link SnowflakeIdGenerator}，可通过 {@link IdGenerators#set(IdGenerator)} 替换。
+ *
+ * @author xgc
+ **/
+public interface IdGenerator {
+
+    /**
+     * 生成一个 ID。
+     */
+    long nextId();
+
+    /**
+     * 一次预留多个 ID，批量写入时使用；默认逐个生成，实现可一次预留整段。
+     *
+     * @param count 数量
+     * @return 互不重复的 ID
+     */
+    default long[] nextIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,53 @@
+package org.dromara.milvus.plus.id;
+
+import org.dromara.milvus.plus.model.MilvusProperties;
+
+/**
+ * 全局主键生成器。
+ * <p>
+ * 启动时按 {@link MilvusProperties} 配置默认实现；也可通过 {@link #set(IdGenerator)} 替换为自定义实现（如基于号段服务）。
+ *
+ * @author xgc
+ **/
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator;
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator get() {
+        IdGenerator current = generator;
+        if (current == null) {
+            synchronized (IdGenerators.class) {
+                current = generator;
+                if (current == null) {
+                    current = new SnowflakeIdGenerator(SnowflakeIdGenerator.resolveWorkerId(-1));
+                    generator = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 替换全局生成器。
+     */
+    public static void set(IdGenerator idGenerator) {
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("idGenerator must not be null");
+        }
+        generator = idGenerator;
+    }
+
+    /**
+     * 按配置创建默认生成器。
+     */
+    public static void configure(MilvusProperties properties) {
+        set(new SnowflakeIdGenerator(SnowflakeIdGenerator.resolveWorkerId(properties.getIdWorkerId())));
+    }
+
+    public static long nextId() {
+        return get().nextId();
+    }
+}
@@ -0,0 +1,189 @@
+package org.dromara.milvus.plus.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.InetAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 无锁雪花 ID 生成器：41 位毫秒时间戳 + 10 位 workerId + 12 位毫秒内序号，位布局与原 IdWorkerUtils 一致。
+ * <p>
+ * 以一个 AtomicLong 保存“时间戳 + 序号”组成的逻辑时钟，每次生成通过一次 CAS 预留整段序号，{@link #nextIds(int)} 同样只需一次 CAS。
+ * 毫秒内序号用尽或系统时钟回拨时，逻辑时钟继续向前借用后续毫秒，不自旋等待、不抛异常；系统时钟追上后自动恢复。
+ * 借用最多领先系统时钟 {@link #MAX_LEAD_MILLIS}，超出时短暂休眠（单 workerId 的持续上限仍为每毫秒 4096 个）。
+ * <p>
+ * workerId 来源见 {@link #resolveWorkerId(int)}，同一集合的多个客户端实例必须使用不同的 workerId。
+ *
+ * @author xgc
+ **/
+@Slf4j
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    /**
+     * 时间起点（与原 IdWorkerUtils 相同，保证新旧 ID 的时间顺序一致）
+     */
+    public static final long EPOCH = 1288834974657L;
+    public static final int WORKER_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+    /**
+     * 系统属性：workerId
+     */
+    public static final String WORKER_ID_PROPERTY = "milvus.worker-id";
+    /**
+     * 环境变量：workerId（容器中可由 Downward API 或编排工具注入）
+     */
+    public static final String WORKER_ID_ENV = "MILVUS_WORKER_ID";
+    /**
+     * 逻辑时钟最多领先系统时钟的毫秒数，超出后短暂休眠等待系统时钟（不自旋）
+     */
+    public static final long MAX_LEAD_MILLIS = 5_000L;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    /**
+     * StatefulSet Pod 名称末尾的序号，例如 ingest-3
+     */
+    private static final Pattern ORDINAL = Pattern.compile("-(\\d{1,4})$");
+
+    private final long workerBits;
+    private final LongSupplier clock;
+    private final long maxLeadMillis;
+    /**
+     * 最近一次预留的逻辑时钟：(毫秒 - EPOCH) << SEQUENCE_BITS | 序号
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, System::currentTimeMillis, MAX_LEAD_MILLIS);
+    }
+
+    SnowflakeIdGenerator(int workerId, LongSupplier clock, long maxLeadMillis) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerBits = (long) workerId << SEQUENCE_BITS;
+        this.clock = clock;
+        this.maxLeadMillis = maxLeadMillis;
+    }
+
+    public int getWorkerId() {
+        return (int) (workerBits >>> SEQUENCE_BITS);
+    }
+
+    @Override
+    public long nextId() {
+        return compose(reserve(1));
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        long first = reserve(count);
+        for (int i = 0; i < count; i++) {
+            ids[i] = compose(first + i);
+        }
+        return ids;
+    }
+
+    /**
+     * 预留 count 个连续的逻辑时钟值，返回第一个。
+     */
+    private long reserve(int count) {
+        while (true) {
+            long previous = state.get();
+            long nowMillis = clock.getAsLong() - EPOCH;
+            // 系统时钟落后于逻辑时钟（回拨或序号用尽）时沿逻辑时钟继续
+            long first = Math.max(previous + 1, nowMillis << SEQUENCE_BITS);
+            if ((first >>> SEQUENCE_BITS) - nowMillis > maxLeadMillis) {
+                // 领先过多：限制借用范围，避免进程重启后与已发出的“未来”ID 重叠
+                LockSupport.parkNanos(100_000L);
+                continue;
+            }
+            if (state.compareAndSet(previous, first + count - 1)) {
+                return first;
+            }
+        }
+    }
+
+    private long compose(long logical) {
+        return ((logical >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | workerBits | (logical & SEQUENCE_MASK);
+    }
+
+    /**
+     * 确定 workerId，优先级：配置值（milvus.id-worker-id）> 系统属性 milvus.worker-id > 环境变量 MILVUS_WORKER_ID
+     * > Kubernetes 中 StatefulSet Pod 名称序号 > 主机名哈希。
+     * <p>
+     * 主机名哈希只能降低而不能消除多实例冲突的概率，多副本部署应显式配置。
+     *
+     * @param configured 配置值，小于 0 表示自动
+     * @return workerId
+     */
+    public static int resolveWorkerId(int configured) {
+        if (configured >= 0) {
+            return check(configured, "milvus.id-worker-id");
+        }
+        String value = System.getProperty(WORKER_ID_PROPERTY);
+        String source = WORKER_ID_PROPERTY;
+        if (StringUtils.isBlank(value)) {
+            value = System.getenv(WORKER_ID_ENV);
+            source = WORKER_ID_ENV;
+        }
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return check(Integer.parseInt(value.trim()), source);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(source + " is not a number: " + value);
+            }
+        }
+        String host = hostname();
+        if (host == null) {
+            int workerId = ThreadLocalRandom.current().nextInt(MAX_WORKER_ID + 1);
+            log.warn("Hostname unavailable, using random workerId {}; configure milvus.id-worker-id for multi-instance deployments", workerId);
+            return workerId;
+        }
+        Matcher matcher = ORDINAL.matcher(host);
+        if (System.getenv("KUBERNETES_SERVICE_HOST") != null && matcher.find()) {
+            int ordinal = Integer.parseInt(matcher.group(1));
+            if (ordinal <= MAX_WORKER_ID) {
+                log.info("Using workerId {} from pod ordinal of {}", ordinal, host);
+                return ordinal;
+            }
+        }
+        int workerId = (host.hashCode() & Integer.MAX_VALUE) % (MAX_WORKER_ID + 1);
+        log.warn("Using workerId {} derived from hostname {}; configure milvus.id-worker-id or {} to guarantee uniqueness",
+                workerId, host, WORKER_ID_ENV);
+        return workerId;
+    }
+
+    private static int check(int workerId, String source) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(source + " must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        return workerId;
+    }
+
+    private static String hostname() {
+        String host = System.getenv("HOSTNAME");
+        if (StringUtils.isNotBlank(host)) {
+            return host.trim();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package org.dromara.milvus.plus.model;
 
 import lombok.Data;
+import org.dromara.milvus.plus.cache.CaffeineResultCache;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.cache.ServerCapabilityCache;
+import org.dromara.milvus.plus.converter.DefaultConversionExecutor;
+import org.dromara.milvus.plus.core.conditions.SearchMicroBatcher;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
 
 import java.util.List;
 
@@ -30,4 +36,86 @@ public class MilvusProperties {
      * 是否允许 schema-mode=RECREATE 时删表重建。生产务必 false。
      */
     private boolean enableRecreate = false;
+
+    /**
+     * 结果转换线程数，0 表示始终在调用线程转换。
+     */
+    private int conversionThreads = DefaultConversionExecutor.DEFAULT_THREADS;
+
+    /**
+     * 结果行数达到该阈值才并行转换。
+     */
+    private int conversionThreshold = DefaultConversionExecutor.DEFAULT_THRESHOLD;
+
+    /**
+     * 转换线程池排队分片上限，超出部分由调用线程执行。
+     */
+    private int conversionQueueCapacity = DefaultConversionExecutor.DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * 单个 insert/upsert 请求的估算字节上限，超出时自动拆分为多个请求。
+     */
+    private long writeRequestBytes = RequestSplitter.DEFAULT_MAX_REQUEST_BYTES;
+
+    /**
+     * 拆分后并发发送的请求数。
+     */
+    private int writeParallelism = RequestSplitter.DEFAULT_PARALLELISM;
+
+    /**
+     * autoID 主键生成的 workerId（0-1023），多实例部署时各实例必须不同；-1 表示从系统属性、环境变量或主机名推导。
+     */
+    private int idWorkerId = -1;
+
+    /**
+     * 检索微批窗口（微秒）：窗口内参数相同的并发单向量检索合并为一次 nq&gt;1 的请求；0 表示关闭。
+     */
+    private long searchBatchWindowMicros = 0L;
+
+    /**
+     * 单次合并检索的最大查询向量数。
+     */
+    private int searchBatchMaxSize = SearchMicroBatcher.DEFAULT_MAX_BATCH;
+
+    /**
+     * 请求去重：指纹相同的检索/查询同时在途时只发送一次并共享结果。
+     */
+    private boolean singleFlight = false;
+
+    /**
+     * 检索/查询结果缓存，实体可用 {@link org.dromara.milvus.plus.annotation.MilvusResultCache} 单独开启或关闭。
+     * 显式 Bounded / Eventually 一致性的请求不缓存；集合默认一致性为 Bounded 时，写入后立即读取的旧结果可能被缓存至过期。
+     */
+    private boolean resultCacheEnabled = false;
+
+    /**
+     * 结果缓存最大条目数。
+     */
+    private long resultCacheMaxEntries = CaffeineResultCache.DEFAULT_MAX_ENTRIES;
+
+    /**
+     * 结果缓存过期时间（毫秒）。
+     */
+    private long resultCacheTtlMillis = ResultCaches.DEFAULT_TTL_MILLIS;
+
+    /**
+     * 异步接口（queryAsync / insertAsync 等）的平台线程数；0 表示 JDK 21+ 使用虚拟线程，否则使用默认线程数。
+     */
+    private int asyncThreads = 0;
+
+    /**
+     * 异步接口的默认超时（毫秒），0 表示不限；构建器可通过 asyncTimeout(...) 单独设置。
+     */
+    private long asyncTimeoutMillis = 0L;
+
+    /**
+     * partial 更新是否使用服务端 partial upsert（服务端版本满足 partialUpsertMinVersion 时）；
+     * false 时始终回查旧行在客户端合并，主键不存在的行会被跳过。
+     */
+    private boolean serverPartialUpsert = true;
+
+    /**
+     * 使用服务端 partial upsert 的最低服务端版本，如 2.6.0。
+     */
+    private String partialUpsertMinVersion = ServerCapabilityCache.DEFAULT_PARTIAL_UPSERT_VERSION;
 }
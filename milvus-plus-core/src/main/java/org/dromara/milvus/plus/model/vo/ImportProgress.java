@@ -0,0 +1,36 @@
+package org.dromara.milvus.plus.model.vo;
+
+import lombok.Data;
+
+/**
+ * 批量导入任务进度（对应 REST 接口 /v2/vectordb/jobs/import/get_progress）。
+ *
+ * @author xgc
+ **/
+@Data
+public class ImportProgress {
+    private String jobId;
+    private String collectionName;
+    /**
+     * Pending / Importing / Completed / Failed
+     */
+    private String state;
+    /**
+     * 进度百分比 0-100
+     */
+    private Integer progress;
+    private Long importedRows;
+    private Long totalRows;
+    /**
+     * 失败原因
+     */
+    private String reason;
+
+    public boolean isCompleted() {
+        return "Completed".equalsIgnoreCase(state);
+    }
+
+    public boolean isFailed() {
+        return "Failed".equalsIgnoreCase(state);
+    }
+}
@@ -0,0 +1,34 @@
+package org.dromara.milvus.plus.model.vo;
+
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 主键游标分页结果。按主键升序返回，nextToken 为 null 表示没有下一页。
+ *
+ * @author xgc
+ **/
+@Data
+public class KeysetPage<T> {
+
+    private long pageSize;
+    /**
+     * 匹配总数，仅在请求时返回（可能来自计数缓存），否则为 null
+     */
+    private Long total;
+    private List<MilvusResult<T>> records = Collections.emptyList();
+    /**
+     * 本页最后一条记录的主键
+     */
+    private Object lastPk;
+    /**
+     * 下一页的续页令牌（不透明字符串），传给 pageAfterToken 继续翻页
+     */
+    private String nextToken;
+
+    public boolean isHasMore() {
+        return nextToken != null;
+    }
+}
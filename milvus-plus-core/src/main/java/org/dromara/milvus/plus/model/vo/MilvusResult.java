@@ -1,11 +1,34 @@
 package org.dromara.milvus.plus.model.vo;
 
-import lombok.Data;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
+ * 检索/查询结果。
+ * <p>
+ * 实体可能延迟解码，toString、equals、hashCode 与 Gson 序列化均经 {@link #getEntity()} 读取实体，
+ * 未解码时先解码，不会输出 entity=null；Jackson 默认按 getter 序列化。
+ *
  * @author xgc
  **/
-@Data
+@Getter
+@Setter
+@JsonAdapter(MilvusResult.LoadingAdapterFactory.class)
 public class MilvusResult<T> {
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private T entity;
     /**
      * 兼容历史字段名。SDK 3.x 语义为 score（相似度/距离得分）。
@@ -14,6 +37,13 @@ public class MilvusResult<T> {
     private Object id;
     private Long total;
 
+    /**
+     * 延迟解码时持有原始行的加载器；首次 getEntity() 解码后清空，原始行随之释放
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile Supplier<? extends T> entityLoader;
+
     /**
      * 语义别名：推荐新代码使用 score。
      */
@@ -24,4 +54,96 @@ public class MilvusResult<T> {
     public void setScore(Float score) {
         this.distance = score;
     }
+
+    /**
+     * 获取实体；延迟解码模式下首次访问时解码，多线程并发访问也只解码一次。
+     */
+    public T getEntity() {
+        if (entityLoader != null) {
+            synchronized (this) {
+                Supplier<? extends T> loader = entityLoader;
+                if (loader != null) {
+                    entity = loader.get();
+                    entityLoader = null;
+                }
+            }
+        }
+        return entity;
+    }
+
+    public void setEntity(T entity) {
+        synchronized (this) {
+            this.entity = entity;
+            this.entityLoader = null;
+        }
+    }
+
+    /**
+     * 设置延迟解码的加载器，由结果转换器使用；加载器只会被调用一次。
+     *
+     * @param entityLoader 实体加载器
+     */
+    public void setEntityLoader(Supplier<? extends T> entityLoader) {
+        synchronized (this) {
+            this.entity = null;
+            this.entityLoader = entityLoader;
+        }
+    }
+
+    /**
+     * 实体是否已解码（非延迟模式下始终为 true）。
+     */
+    public boolean entityLoaded() {
+        return entityLoader == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MilvusResult)) {
+            return false;
+        }
+        MilvusResult<?> that = (MilvusResult<?>) o;
+        return Objects.equals(getEntity(), that.getEntity())
+                && Objects.equals(distance, that.distance)
+                && Objects.equals(id, that.id)
+                && Objects.equals(total, that.total);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getEntity(), distance, id, total);
+    }
+
+    @Override
+    public String toString() {
+        return "MilvusResult(entity=" + getEntity() + ", distance=" + distance + ", id=" + id + ", total=" + total + ")";
+    }
+
+    /**
+     * Gson 按字段序列化：写出前先解码延迟实体。
+     */
+    static final class LoadingAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> type) {
+            TypeAdapter<R> delegate = gson.getDelegateAdapter(this, type);
+            return new TypeAdapter<R>() {
+                @Override
+                public void write(JsonWriter out, R value) throws IOException {
+                    if (value instanceof MilvusResult) {
+                        ((MilvusResult<?>) value).getEntity();
+                    }
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public R read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+    }
 }
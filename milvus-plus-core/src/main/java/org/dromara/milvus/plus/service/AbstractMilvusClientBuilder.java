@@ -9,6 +9,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.dromara.milvus.plus.annotation.MilvusCollection;
 import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.cache.ServerCapabilityCache;
+import org.dromara.milvus.plus.converter.ConversionExecutors;
+import org.dromara.milvus.plus.core.conditions.AsyncExecutors;
+import org.dromara.milvus.plus.core.conditions.SearchMicroBatcher;
+import org.dromara.milvus.plus.core.conditions.SingleFlight;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
+import org.dromara.milvus.plus.id.IdGenerators;
 import org.dromara.milvus.plus.converter.MilvusConverter;
 import org.dromara.milvus.plus.exception.MilvusPlusException;
 import org.dromara.milvus.plus.model.MilvusEntity;
@@ -38,6 +46,14 @@ public abstract class AbstractMilvusClientBuilder implements MilvusClientBuilder
     @Override
     public void initialize() {
         if (properties.isEnable()) {
+            ConversionExecutors.configure(properties);
+            RequestSplitter.configure(properties);
+            IdGenerators.configure(properties);
+            SearchMicroBatcher.configure(properties);
+            SingleFlight.configure(properties);
+            ResultCaches.configure(properties);
+            AsyncExecutors.configure(properties);
+            ServerCapabilityCache.configure(properties);
             ConnectConfig connectConfig = ConnectConfig.builder()
                     .uri(properties.getUri())
                     .token(properties.getToken())
@@ -0,0 +1,190 @@
+package org.dromara.milvus.plus.service;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.vo.ImportProgress;
+import org.dromara.milvus.plus.util.GsonUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 批量导入任务：通过 Milvus RESTful v2 接口（/v2/vectordb/jobs/import）提交任务并查询进度。
+ * <p>
+ * 导入文件需已位于 Milvus 使用的对象存储中，路径相对于桶。
+ */
+@Slf4j
+public final class BulkImportHelper {
+
+    private static final String CREATE_PATH = "/v2/vectordb/jobs/import/create";
+    private static final String PROGRESS_PATH = "/v2/vectordb/jobs/import/get_progress";
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+
+    private BulkImportHelper() {
+    }
+
+    /**
+     * 提交导入任务。
+     *
+     * @param uri            Milvus 地址，例如 http://localhost:19530
+     * @param token          认证 token（user:password 或 API key），可为空
+     * @param collectionName 集合名称
+     * @param partitionName  分区名称，可为空
+     * @param files          导入文件分组，JSON 文件每组一个
+     * @return 任务 ID
+     */
+    public static String submit(String uri, String token, String collectionName, String partitionName, List<List<String>> files) {
+        if (StringUtils.isBlank(collectionName)) {
+            throw MilvusPlusException.of("COLLECTION_NAME_EMPTY", "collectionName must not be blank");
+        }
+        if (files == null || files.isEmpty()) {
+            throw MilvusPlusException.of("BULK_IMPORT_FILES_EMPTY", "files must not be empty");
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("collectionName", collectionName);
+        if (StringUtils.isNotEmpty(partitionName)) {
+            body.addProperty("partitionName", partitionName);
+        }
+        body.add("files", GsonUtil.toJsonTree(files));
+        JsonObject data = post(uri, token, CREATE_PATH, body);
+        String jobId = data.has("jobId") ? data.get("jobId").getAsString() : null;
+        if (StringUtils.isEmpty(jobId)) {
+            throw MilvusPlusException.of("BULK_IMPORT_FAILED", "Import job id missing in response: " + data);
+        }
+        log.info("Bulk import job {} submitted for collection {} with {} file group(s)", jobId, collectionName, files.size());
+        return jobId;
+    }
+
+    /**
+     * 查询导入任务进度。
+     *
+     * @param uri   Milvus 地址
+     * @param token 认证 token，可为空
+     * @param jobId 任务 ID
+     * @return 任务进度
+     */
+    public static ImportProgress progress(String uri, String token, String jobId) {
+        JsonObject body = new JsonObject();
+        body.addProperty("jobId", jobId);
+        JsonObject data = post(uri, token, PROGRESS_PATH, body);
+        ImportProgress progress = new ImportProgress();
+        progress.setJobId(jobId);
+        progress.setCollectionName(string(data, "collectionName"));
+        progress.setState(string(data, "state"));
+        progress.setReason(string(data, "reason"));
+        progress.setProgress(data.has("progress") ? data.get("progress").getAsInt() : null);
+        progress.setImportedRows(data.has("importedRows") ? data.get("importedRows").getAsLong() : null);
+        progress.setTotalRows(data.has("totalRows") ? data.get("totalRows").getAsLong() : null);
+        return progress;
+    }
+
+    /**
+     * 轮询等待导入任务结束。
+     *
+     * @param uri            Milvus 地址
+     * @param token          认证 token，可为空
+     * @param jobId          任务 ID
+     * @param timeoutMillis  超时时间（毫秒）
+     * @param pollMillis     轮询间隔（毫秒）
+     * @param listener       每次查询后的进度回调，可为空
+     * @return 完成时的进度
+     */
+    public static ImportProgress await(String uri, String token, String jobId, long timeoutMillis, long pollMillis,
+                                       Consumer<ImportProgress> listener) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            ImportProgress progress = progress(uri, token, jobId);
+            if (listener != null) {
+                listener.accept(progress);
+            }
+            if (progress.isCompleted()) {
+                return progress;
+            }
+            if (progress.isFailed()) {
+                throw MilvusPlusException.of("BULK_IMPORT_FAILED", "Import job " + jobId + " failed: " + progress.getReason());
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw MilvusPlusException.of("BULK_IMPORT_TIMEOUT", "Import job " + jobId + " not finished within "
+                        + timeoutMillis + "ms, state=" + progress.getState() + ", progress=" + progress.getProgress());
+            }
+            try {
+                Thread.sleep(Math.max(1L, pollMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw MilvusPlusException.of("BULK_IMPORT_INTERRUPTED", "Interrupted while waiting for import job " + jobId);
+            }
+        }
+    }
+
+    private static JsonObject post(String uri, String token, String path, JsonObject body) {
+        if (StringUtils.isBlank(uri)) {
+            throw MilvusPlusException.of("MILVUS_URI_EMPTY", "uri must not be blank");
+        }
+        String endpoint = StringUtils.removeEnd(uri.trim(), "/") + path;
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(endpoint).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty("Accept", "application/json");
+            if (StringUtils.isNotEmpty(token)) {
+                connection.setRequestProperty("Authorization", "Bearer " + token);
+            }
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            int status = connection.getResponseCode();
+            InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            String text = in == null ? "" : read(in);
+            if (status >= 400) {
+                throw MilvusPlusException.of("BULK_IMPORT_FAILED", "HTTP " + status + " from " + path + ": " + text);
+            }
+            JsonElement element = JsonParser.parseString(text);
+            JsonObject response = element.isJsonObject() ? element.getAsJsonObject() : new JsonObject();
+            int code = response.has("code") ? response.get("code").getAsInt() : -1;
+            if (code != 0) {
+                throw MilvusPlusException.of("BULK_IMPORT_FAILED", "Request " + path + " failed: " + text);
+            }
+            JsonElement data = response.get("data");
+            return data != null && data.isJsonObject() ? data.getAsJsonObject() : new JsonObject();
+        } catch (IOException e) {
+            throw new MilvusPlusException("BULK_IMPORT_FAILED", "Request " + endpoint + " failed: " + e.getMessage(), e);
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int n;
+            while ((n = input.read(chunk)) != -1) {
+                buffer.write(chunk, 0, n);
+            }
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String string(JsonObject data, String key) {
+        JsonElement value = data.get(key);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+}
@@ -17,14 +17,19 @@ import io.milvus.v2.service.utility.request.DropAliasReq;
 import io.milvus.v2.service.utility.request.ListAliasesReq;
 import io.milvus.v2.service.utility.response.ListAliasResp;
 import org.apache.commons.lang3.StringUtils;
+import org.dromara.milvus.plus.cache.NearCaches;
+import org.dromara.milvus.plus.cache.ResultCaches;
 import org.dromara.milvus.plus.converter.MilvusConverter;
 import org.dromara.milvus.plus.core.FieldFunction;
 import org.dromara.milvus.plus.exception.MilvusPlusException;
 import org.dromara.milvus.plus.model.MilvusEntity;
 import org.dromara.milvus.plus.model.SchemaMode;
+import org.dromara.milvus.plus.model.vo.ImportProgress;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 public interface ICMService {
 
@@ -82,12 +87,25 @@ public interface ICMService {
      * 清空集合数据（保留 schema）。
      * <p>
      * 优先调用服务端 TruncateCollection（Milvus 2.6+/3.x）。
-     * 旧版本不支持时，回退为按主键分批删除，保证 Plus API 在 2.5 standalone 上仍可用。
+     * 旧版本不支持时，回退为按主键迭代分批删除，保证 Plus API 在 2.5 standalone 上仍可用。
      */
     default void truncateCollection(String collectionName) {
+        truncateCollection(collectionName, TruncateHelper.DEFAULT_BATCH_SIZE, null);
+    }
+
+    /**
+     * 清空集合数据，指定回退删除的批大小与进度回调。
+     *
+     * @param collectionName 集合名称
+     * @param batchSize      回退删除时每批主键数
+     * @param progress       回退删除的进度回调（累计删除行数），可为空；服务端直接清空时不回调
+     */
+    default void truncateCollection(String collectionName, int batchSize, LongConsumer progress) {
         MilvusClientV2 client = getClient();
         try {
             client.truncateCollection(TruncateCollectionReq.builder().collectionName(collectionName).build());
+            ResultCaches.invalidate(collectionName);
+            NearCaches.clear(collectionName);
             return;
         } catch (Exception ex) {
             String msg = ex.getMessage() == null ? "" : ex.getMessage();
@@ -99,41 +117,19 @@ public interface ICMService {
             if (!unimplemented) {
                 throw MilvusPlusException.wrap(ex);
             }
-            // fallback: batch delete by primary key
-            DescribeCollectionResp desc = describeCollection(collectionName);
-            String pk = desc.getPrimaryFieldName();
-            if (StringUtils.isBlank(pk)) {
-                throw MilvusPlusException.of("TRUNCATE_FALLBACK_FAILED",
-                        "TruncateCollection unsupported and primary key not found for collection: " + collectionName);
-            }
-            // 尽量用“全匹配”表达式一次删光（int/varchar 通用兜底：主键 is not null 在部分版本不生效，改用循环）
-            int guard = 0;
-            while (guard++ < 10000) {
-                io.milvus.v2.service.vector.response.QueryResp queryResp = client.query(
-                        io.milvus.v2.service.vector.request.QueryReq.builder()
-                                .collectionName(collectionName)
-                                .outputFields(java.util.Collections.singletonList(pk))
-                                .limit(1024L)
-                                .build()
-                );
-                if (queryResp == null || queryResp.getQueryResults() == null || queryResp.getQueryResults().isEmpty()) {
-                    break;
-                }
-                java.util.List<Object> ids = new java.util.ArrayList<>();
-                for (io.milvus.v2.service.vector.response.QueryResp.QueryResult row : queryResp.getQueryResults()) {
-                    Object id = row.getEntity().get(pk);
-                    if (id != null) {
-                        ids.add(id);
-                    }
-                }
-                if (ids.isEmpty()) {
-                    break;
-                }
-                client.delete(io.milvus.v2.service.vector.request.DeleteReq.builder()
-                        .collectionName(collectionName)
-                        .ids(ids)
-                        .build());
-            }
+        }
+        // fallback: delete by primary key iterator
+        DescribeCollectionResp desc = describeCollection(collectionName);
+        String pk = desc.getPrimaryFieldName();
+        if (StringUtils.isBlank(pk)) {
+            throw MilvusPlusException.of("TRUNCATE_FALLBACK_FAILED",
+                    "TruncateCollection unsupported and primary key not found for collection: " + collectionName);
+        }
+        try {
+            TruncateHelper.deleteAll(client, collectionName, pk, batchSize, progress);
+        } finally {
+            ResultCaches.invalidate(collectionName);
+            NearCaches.clear(collectionName);
         }
     }
 
@@ -141,6 +137,40 @@ public interface ICMService {
         MilvusEntity entity = MilvusConverter.convert(milvusClass);
         truncateCollection(entity.getCollectionName());
     }
+    /**
+     * 提交批量导入任务（RESTful v2 接口），文件一般由 {@link org.dromara.milvus.plus.core.writer.BulkImportFileWriter} 生成并已上传到对象存储。
+     *
+     * @param uri            Milvus 地址，例如 http://localhost:19530
+     * @param token          认证 token（user:password 或 API key），可为空
+     * @param collectionName 集合名称
+     * @param partitionName  分区名称，可为空
+     * @param files          导入文件分组（相对于桶的路径）
+     * @return 任务 ID
+     */
+    default String submitImport(String uri, String token, String collectionName, String partitionName, List<List<String>> files) {
+        return BulkImportHelper.submit(uri, token, collectionName, partitionName, files);
+    }
+
+    /**
+     * 查询批量导入任务进度。
+     */
+    default ImportProgress getImportProgress(String uri, String token, String jobId) {
+        return BulkImportHelper.progress(uri, token, jobId);
+    }
+
+    /**
+     * 轮询等待批量导入任务完成，失败或超时抛出 MilvusPlusException。
+     *
+     * @param timeoutMillis 超时时间（毫秒）
+     * @param pollMillis    轮询间隔（毫秒）
+     * @param listener      进度回调，可为空
+     * @return 完成时的进度
+     */
+    default ImportProgress awaitImport(String uri, String token, String jobId, long timeoutMillis, long pollMillis,
+                                       Consumer<ImportProgress> listener) {
+        return BulkImportHelper.await(uri, token, jobId, timeoutMillis, pollMillis, listener);
+    }
+
     /**
      * 向已存在的集合添加字段（调用服务端 addCollectionField）。
      * <p>
@@ -240,6 +270,8 @@ public interface ICMService {
                 .collectionName(collectionName)
                 .build();
         client.dropCollection(dropCollectionReq);
+        ResultCaches.invalidate(collectionName);
+        NearCaches.clear(collectionName);
     }
 
     /**
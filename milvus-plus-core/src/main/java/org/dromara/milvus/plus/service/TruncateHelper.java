@@ -0,0 +1,137 @@
+package org.dromara.milvus.plus.service;
+
+import io.milvus.orm.iterator.QueryIterator;
+import io.milvus.response.QueryResultsWrapper;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.common.ConsistencyLevel;
+import io.milvus.v2.service.vector.request.DeleteReq;
+import io.milvus.v2.service.vector.request.QueryIteratorReq;
+import io.milvus.v2.service.vector.response.DeleteResp;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * 清空集合的回退实现（服务端不支持 TruncateCollection 时）：按主键迭代扫描并删除。
+ * <p>
+ * 主键迭代器按主键递增翻页，已扫描的行被删除不影响后续扫描，因此删除与下一批扫描并行进行；
+ * 同时进行中的删除请求数不超过写入并发数（milvus.write-parallelism），没有迭代次数上限。
+ */
+@Slf4j
+public final class TruncateHelper {
+
+    /**
+     * 默认每批主键数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private TruncateHelper() {
+    }
+
+    /**
+     * 删除集合中的全部数据。
+     *
+     * @param client         客户端
+     * @param collectionName 集合名称
+     * @param primaryKey     主键字段名称
+     * @param batchSize      每批主键数
+     * @param progress       进度回调（累计删除行数），每个删除请求完成后调用一次，调用之间串行；可为空。回调抛出的异常会终止清空并由本方法抛出
+     * @return 删除的行数
+     */
+    public static long deleteAll(MilvusClientV2 client, String collectionName, String primaryKey, int batchSize,
+                                 LongConsumer progress) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        QueryIterator iterator = client.queryIterator(QueryIteratorReq.builder()
+                .collectionName(collectionName)
+                .outputFields(Collections.singletonList(primaryKey))
+                .consistencyLevel(ConsistencyLevel.STRONG)
+                .batchSize(batchSize)
+                .build());
+        Semaphore inFlight = new Semaphore(RequestSplitter.getParallelism());
+        AtomicLong deleted = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        Object progressLock = new Object();
+        try {
+            while (failure.get() == null) {
+                List<QueryResultsWrapper.RowRecord> rows = iterator.next();
+                if (rows == null || rows.isEmpty()) {
+                    break;
+                }
+                List<Object> ids = new ArrayList<>(rows.size());
+                for (QueryResultsWrapper.RowRecord row : rows) {
+                    Object id = row.getFieldValues().get(primaryKey);
+                    if (id != null) {
+                        ids.add(id);
+                    }
+                }
+                if (ids.isEmpty()) {
+                    continue;
+                }
+                inFlight.acquire();
+                pending.removeIf(CompletableFuture::isDone);
+                pending.add(RequestSplitter.submit(() -> client.delete(DeleteReq.builder()
+                        .collectionName(collectionName)
+                        .ids(ids)
+                        .build())).handle((DeleteResp resp, Throwable e) -> {
+                    inFlight.release();
+                    if (e != null) {
+                        failure.compareAndSet(null, e instanceof CompletionException ? e.getCause() : e);
+                        return null;
+                    }
+                    long count = resp == null ? ids.size() : resp.getDeleteCnt();
+                    // 累加与回调在同一把锁下，回调收到的累计值单调递增
+                    synchronized (progressLock) {
+                        long total = deleted.addAndGet(count);
+                        if (progress != null) {
+                            try {
+                                progress.accept(total);
+                            } catch (RuntimeException callbackError) {
+                                // 回调异常记为失败，停止提交后续删除
+                                failure.compareAndSet(null, callbackError);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, MilvusPlusException.of("TRUNCATE_INTERRUPTED", "Interrupted while truncating " + collectionName));
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            // 等待全部在途删除结束；失败已记录在 failure 中，这里不抛出，保证迭代器关闭
+            for (CompletableFuture<Void> future : pending) {
+                try {
+                    future.join();
+                } catch (CompletionException | CancellationException ignored) {
+                    // 失败已由 handle 记录
+                }
+            }
+            try {
+                iterator.close();
+            } catch (Exception e) {
+                log.warn("Failed to close query iterator: {}", e.toString());
+            }
+        }
+        if (failure.get() != null) {
+            throw MilvusPlusException.wrap(failure.get());
+        }
+        log.info("Truncated collection {} by primary key, {} rows deleted", collectionName, deleted.get());
+        return deleted.get();
+    }
+}
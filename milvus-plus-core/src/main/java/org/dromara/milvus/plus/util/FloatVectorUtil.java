@@ -0,0 +1,99 @@
+package org.dromara.milvus.plus.util;
+
+import com.google.gson.JsonArray;
+
+import java.nio.FloatBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * float[] / FloatBuffer 向量工具。
+ * <p>
+ * SDK 的 FloatVec 只接受 List&lt;Float&gt;（float[] 构造器内部也会装箱复制），这里提供只读视图，
+ * 请求序列化时逐个读取原始 float，不再持有装箱后的列表。
+ *
+ * @author xgc
+ **/
+public final class FloatVectorUtil {
+
+    private FloatVectorUtil() {
+    }
+
+    /**
+     * float[] 的只读 List 视图，不复制、不装箱保存。
+     */
+    public static List<Float> asList(float[] vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("vector must not be null");
+        }
+        return new FloatArrayView(vector, 0, vector.length);
+    }
+
+    /**
+     * FloatBuffer 剩余部分的只读 List 视图；堆内缓冲直接引用其数组，直接缓冲复制一次为 float[]。
+     */
+    public static List<Float> asList(FloatBuffer vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("vector must not be null");
+        }
+        if (vector.hasArray()) {
+            return new FloatArrayView(vector.array(), vector.arrayOffset() + vector.position(), vector.remaining());
+        }
+        return asList(toArray(vector));
+    }
+
+    /**
+     * 读取 FloatBuffer 剩余部分，不改变其 position。
+     */
+    public static float[] toArray(FloatBuffer vector) {
+        FloatBuffer duplicate = vector.duplicate();
+        float[] result = new float[duplicate.remaining()];
+        duplicate.get(result);
+        return result;
+    }
+
+    /**
+     * 写入 insert/upsert 行使用的 JsonArray。
+     */
+    public static JsonArray toJsonArray(float[] vector) {
+        JsonArray array = new JsonArray(vector.length);
+        for (float v : vector) {
+            array.add(v);
+        }
+        return array;
+    }
+
+    public static JsonArray toJsonArray(FloatBuffer vector) {
+        JsonArray array = new JsonArray(vector.remaining());
+        for (int i = vector.position(); i < vector.limit(); i++) {
+            array.add(vector.get(i));
+        }
+        return array;
+    }
+
+    private static final class FloatArrayView extends AbstractList<Float> implements RandomAccess {
+        private final float[] array;
+        private final int offset;
+        private final int size;
+
+        private FloatArrayView(float[] array, int offset, int size) {
+            this.array = array;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public Float get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return array[offset + index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
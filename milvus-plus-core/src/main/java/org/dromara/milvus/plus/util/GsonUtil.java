@@ -4,6 +4,7 @@ import com.google.common.reflect.TypeToken;
 import com.google.gson.*;
 
 import java.lang.reflect.Type;
+import java.nio.FloatBuffer;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +120,28 @@ public final class GsonUtil {
         return GSON.fromJson(json, type);
     }
 
+    /**
+     * 将 JsonElement 直接转换为指定类型的对象，不经过 JSON 字符串。
+     *
+     * @param json JsonElement
+     * @param type Java 类型
+     * @param <T>  对象的类型
+     * @return 转换后的对象
+     */
+    public static <T> T fromJsonTree(JsonElement json, Type type) {
+        return GSON.fromJson(json, type);
+    }
+
+    /**
+     * 将对象转换为 JsonElement，不经过 JSON 字符串。
+     *
+     * @param object 要转换的对象
+     * @return 转换后的 JsonElement
+     */
+    public static JsonElement toJsonTree(Object object) {
+        return GSON.toJsonTree(object);
+    }
+
     /**
      * 将键值对添加到 JsonObject 中。
      * <p>
@@ -146,6 +169,10 @@ public final class GsonUtil {
             jsonObject.addProperty(key, (Character) value);
         } else if (value instanceof JsonElement) {
             jsonObject.add(key, (JsonElement) value);
+        } else if (value instanceof float[]) {
+            jsonObject.add(key, FloatVectorUtil.toJsonArray((float[]) value));
+        } else if (value instanceof FloatBuffer) {
+            jsonObject.add(key, FloatVectorUtil.toJsonArray((FloatBuffer) value));
         } else {
             jsonObject.add(key, GSON.toJsonTree(value));
         }
@@ -0,0 +1,75 @@
+package org.dromara.milvus.plus.util;
+
+import com.google.gson.JsonElement;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 原始行深拷贝：缓存或共享的行在绑定实体前复制，绑定结果与缓存中的行不共享可变对象（集合、数组、向量、JSON）。
+ * <p>
+ * 字符串、数值等不可变值直接复用。
+ *
+ * @author xgc
+ **/
+public final class RowCopyUtil {
+
+    private RowCopyUtil() {
+    }
+
+    /**
+     * 复制一行。
+     */
+    public static Map<String, Object> copy(Map<String, Object> row) {
+        if (row == null) {
+            return null;
+        }
+        Map<String, Object> copy = new HashMap<>(Math.max(16, row.size() * 2));
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof Collection) {
+            Collection<?> source = (Collection<?>) value;
+            Collection<Object> copy = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>(source.size());
+            for (Object element : source) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        if (value instanceof ByteBuffer) {
+            ByteBuffer source = ((ByteBuffer) value).duplicate();
+            ByteBuffer copy = ByteBuffer.allocate(source.remaining()).order(((ByteBuffer) value).order());
+            copy.put(source);
+            copy.flip();
+            return copy;
+        }
+        if (value instanceof JsonElement) {
+            return ((JsonElement) value).deepCopy();
+        }
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                System.arraycopy(value, 0, copy, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    Array.set(copy, i, copyValue(Array.get(value, i)));
+                }
+            }
+            return copy;
+        }
+        return value;
+    }
+}
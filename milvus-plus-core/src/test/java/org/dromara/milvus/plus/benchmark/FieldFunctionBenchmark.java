@@ -0,0 +1,66 @@
+package org.dromara.milvus.plus.benchmark;
+
+import io.milvus.v2.common.DataType;
+import lombok.Data;
+import org.dromara.milvus.plus.annotation.MilvusCollection;
+import org.dromara.milvus.plus.annotation.MilvusField;
+import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.MilvusCache;
+import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.dromara.milvus.plus.core.FieldFunction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.SerializedLambda;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FieldFunction 字段名解析的单次调用耗时：每次 writeReplace（旧实现） vs 按 lambda 类缓存。
+ * <p>
+ * 运行：在 IDE 中执行 main，或 mvn test-compile 后以 test classpath 运行本类。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldFunctionBenchmark {
+
+    @Data
+    @MilvusCollection(name = "benchmark_face")
+    public static class Face {
+        @MilvusField(name = "person_id", dataType = DataType.Int64, isPrimaryKey = true)
+        private Long personId;
+    }
+
+    private FieldFunction<Face, ?> fn;
+
+    @Setup
+    public void setup() {
+        MilvusConverter.convert(Face.class);
+        fn = Face::getPersonId;
+    }
+
+    /**
+     * 旧实现：每次调用都通过 writeReplace 取得 SerializedLambda 再查实体缓存。
+     */
+    @Benchmark
+    public String writeReplacePerCall() {
+        SerializedLambda lambda = fn.getSerializedLambda(fn);
+        String implClass = lambda.getImplClass().replace("/", ".");
+        ConversionCache conversionCache = MilvusCache.milvusCache.get(implClass);
+        return conversionCache.getPropertyCache().methodToPropertyMap.get(lambda.getImplMethodName());
+    }
+
+    @Benchmark
+    public String cachedPerLambdaClass() {
+        return fn.getFieldName(fn);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FieldFunctionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
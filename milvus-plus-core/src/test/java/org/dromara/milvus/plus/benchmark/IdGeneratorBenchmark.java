@@ -0,0 +1,75 @@
+package org.dromara.milvus.plus.benchmark;
+
+import org.dromara.milvus.plus.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64 线程并发生成 autoID 主键的吞吐：原 IdWorkerUtils（static synchronized + 自旋等待下一毫秒） vs 无锁 CAS 逐个生成 vs 按批预留。
+ * <p>
+ * 运行：在 IDE 中执行 main，或 mvn test-compile 后以 test classpath 运行本类。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    /**
+     * 旧实现：全局锁，毫秒内 4096 个用尽后自旋到下一毫秒。
+     */
+    @Benchmark
+    public long legacySynchronized() {
+        return LegacyIdWorker.nextId();
+    }
+
+    @Benchmark
+    public long casNextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long[] casNextIds() {
+        return generator.nextIds(BATCH);
+    }
+
+    private static final class LegacyIdWorker {
+        private static long lastTimestamp = -1L;
+        private static long sequence = 0L;
+
+        static synchronized long nextId() {
+            long timestamp = System.currentTimeMillis();
+            if (timestamp < lastTimestamp) {
+                throw new IllegalStateException("Clock moved backwards");
+            }
+            if (lastTimestamp == timestamp) {
+                sequence = (sequence + 1) & 4095L;
+                if (sequence == 0) {
+                    while (timestamp <= lastTimestamp) {
+                        timestamp = System.currentTimeMillis();
+                    }
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastTimestamp = timestamp;
+            return ((timestamp - SnowflakeIdGenerator.EPOCH) << 22) | (1L << 12) | sequence;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package org.dromara.milvus.plus.cache;
+
+import com.google.gson.JsonObject;
+import org.dromara.milvus.plus.annotation.MilvusNearCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class NearCacheTest {
+
+    private static class Plain {
+    }
+
+    @MilvusNearCache(maxEntries = 100, ttlMillis = 60_000)
+    private static class Cached {
+    }
+
+    private static Map<String, Object> row(long id) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("name", "n" + id);
+        return row;
+    }
+
+    @Test
+    public void readDuringWriteDoesNotRepopulate() {
+        NearCache cache = new NearCache(10, 1 << 20, 60_000);
+        long generation = cache.generation();
+        cache.evict(Collections.singletonList("n:1"));
+        cache.put(generation, "n:1", row(1));
+        Assert.assertNull(cache.get("n:1"));
+
+        cache.put(cache.generation(), "n:1", row(1));
+        Assert.assertEquals("n1", cache.get("n:1").get("name"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void storedAndReturnedRowsAreIsolated() {
+        NearCache cache = new NearCache(10, 1 << 20, 60_000);
+        Map<String, Object> row = row(1);
+        row.put("vector", new ArrayList<>(Arrays.asList(1f, 2f)));
+        cache.put(cache.generation(), "n:1", row);
+        ((List<Float>) row.get("vector")).set(0, 9f);
+        ((List<Float>) cache.get("n:1").get("vector")).set(1, 9f);
+        Assert.assertEquals(Arrays.asList(1f, 2f), cache.get("n:1").get("vector"));
+    }
+
+    @Test
+    public void boundedByEntryCountAndBytes() {
+        NearCache byCount = new NearCache(10, 1 << 20, 60_000);
+        NearCache byBytes = new NearCache(1000, 2000, 60_000);
+        for (long i = 0; i < 100; i++) {
+            byCount.put(byCount.generation(), "n:" + i, row(i));
+            byBytes.put(byBytes.generation(), "n:" + i, row(i));
+        }
+        byCount.cleanUp();
+        byBytes.cleanUp();
+        long countSize = 0;
+        long bytesSize = 0;
+        for (long i = 0; i < 100; i++) {
+            countSize += byCount.get("n:" + i) == null ? 0 : 1;
+            bytesSize += byBytes.get("n:" + i) == null ? 0 : 1;
+        }
+        Assert.assertTrue(countSize <= 10);
+        Assert.assertTrue(bytesSize * NearCache.estimate(row(1)) <= 2000);
+    }
+
+    @Test
+    public void writesEvictByPrimaryKey() {
+        CollectionToPrimaryCache.collectionToPrimary.put("near_c", "id");
+        Assert.assertNull(NearCaches.get("near_plain", Plain.class));
+        NearCache cache = NearCaches.get("near_c", Cached.class);
+        Assert.assertSame(cache, NearCaches.get("near_c", Cached.class));
+        for (long i = 1; i <= 3; i++) {
+            cache.put(cache.generation(), "n:" + i, row(i));
+        }
+
+        JsonObject upserted = new JsonObject();
+        upserted.addProperty("id", 1L);
+        NearCaches.evictRows("near_c", Collections.singletonList(upserted));
+        NearCaches.evictIds("near_c", Arrays.asList(2L));
+        Assert.assertNull(cache.get("n:1"));
+        Assert.assertNull(cache.get("n:2"));
+        Assert.assertNotNull(cache.get("n:3"));
+
+        // 按条件删除：整体清空
+        NearCaches.evictIds("near_c", null);
+        Assert.assertNull(cache.get("n:3"));
+        Assert.assertEquals(3, NearCaches.stats("near_c").getMissCount());
+    }
+}
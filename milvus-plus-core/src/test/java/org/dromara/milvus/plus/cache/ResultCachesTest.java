@@ -0,0 +1,108 @@
+package org.dromara.milvus.plus.cache;
+
+import io.milvus.v2.service.vector.response.QueryResp;
+import org.dromara.milvus.plus.annotation.MilvusResultCache;
+import org.dromara.milvus.plus.converter.SearchRespConverter;
+import org.dromara.milvus.plus.model.MilvusProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ResultCachesTest {
+
+    private static final Object CLIENT = new Object();
+
+    private static class Plain {
+    }
+
+    @MilvusResultCache(ttlMillis = 5000)
+    private static class Cached {
+    }
+
+    @MilvusResultCache(enabled = false)
+    private static class Uncached {
+    }
+
+    private static void configure(boolean enabled) {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setResultCacheEnabled(enabled);
+        properties.setResultCacheTtlMillis(1000);
+        properties.setResultCacheMaxEntries(100);
+        ResultCaches.configure(properties);
+    }
+
+    @After
+    public void reset() {
+        configure(false);
+    }
+
+    @Test
+    public void annotationOverridesGlobalSetting() {
+        configure(false);
+        Assert.assertEquals(0L, ResultCaches.ttlMillis(Plain.class));
+        Assert.assertEquals(5000L, ResultCaches.ttlMillis(Cached.class));
+        Assert.assertEquals(0L, ResultCaches.ttlMillis(Uncached.class));
+        configure(true);
+        Assert.assertEquals(1000L, ResultCaches.ttlMillis(Plain.class));
+        Assert.assertEquals(0L, ResultCaches.ttlMillis(Uncached.class));
+    }
+
+    @Test
+    public void writeInvalidatesCollectionAndRecordsHitRate() {
+        configure(true);
+        ResultCacheKey key = ResultCaches.key(CLIENT, "c1", "q");
+        ResultCacheKey other = ResultCaches.key(CLIENT, "c2", "q");
+        Assert.assertNull(ResultCaches.lookup(key));
+        ResultCaches.put(key, "r1", 1000);
+        ResultCaches.put(other, "r2", 1000);
+        Assert.assertEquals("r1", ResultCaches.lookup(ResultCaches.key(CLIENT, "c1", "q")));
+
+        ResultCaches.invalidate("c1");
+        Assert.assertNull(ResultCaches.lookup(ResultCaches.key(CLIENT, "c1", "q")));
+        Assert.assertEquals("r2", ResultCaches.lookup(ResultCaches.key(CLIENT, "c2", "q")));
+        // 写入前取得的键（写入期间的读取）不会污染写入后的缓存
+        ResultCaches.put(key, "stale", 1000);
+        Assert.assertNull(ResultCaches.lookup(ResultCaches.key(CLIENT, "c1", "q")));
+
+        ResultCacheStats stats = ResultCaches.stats();
+        Assert.assertEquals(2, stats.getHitCount());
+        Assert.assertEquals(3, stats.getMissCount());
+        Assert.assertEquals(0.4, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void clientsDoNotShareEntries() {
+        configure(true);
+        ResultCaches.put(ResultCaches.key(CLIENT, "c3", "q"), "r", 1000);
+        Assert.assertNull(ResultCaches.lookup(ResultCaches.key(new Object(), "c3", "q")));
+        Assert.assertEquals("r", ResultCaches.lookup(ResultCaches.key(CLIENT, "c3", "q")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cachedResponsesAreCopiedBeforeBinding() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("tags", new ArrayList<>(Arrays.asList("a", "b")));
+        row.put("vector", new float[]{1f, 2f});
+        QueryResp cached = QueryResp.builder().build();
+        cached.setQueryResults(Collections.singletonList(QueryResp.QueryResult.builder().entity(row).build()));
+
+        Map<String, Object> copy = SearchRespConverter.copyOf(cached).getQueryResults().get(0).getEntity();
+        ((List<String>) copy.get("tags")).add("c");
+        ((float[]) copy.get("vector"))[0] = 9f;
+        Assert.assertEquals(Arrays.asList("a", "b"), row.get("tags"));
+        Assert.assertEquals(1f, ((float[]) row.get("vector"))[0], 0f);
+    }
+
+    @Test
+    public void entriesExpireByTtl() throws Exception {
+        CaffeineResultCache cache = new CaffeineResultCache(10);
+        ResultCacheKey key = new ResultCacheKey(CLIENT, "c", 0, "q");
+        cache.put(key, "r", 20);
+        Assert.assertEquals("r", cache.get(key));
+        Thread.sleep(60);
+        Assert.assertNull(cache.get(key));
+    }
+}
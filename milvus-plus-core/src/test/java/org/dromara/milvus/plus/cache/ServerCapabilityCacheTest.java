@@ -0,0 +1,56 @@
+package org.dromara.milvus.plus.cache;
+
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.dromara.milvus.plus.model.MilvusProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ServerCapabilityCacheTest {
+
+    private static final int[] REQUIRED = {2, 6, 0};
+
+    @After
+    public void reset() {
+        ServerCapabilityCache.configure(new MilvusProperties());
+    }
+
+    @Test
+    public void comparesServerVersions() {
+        Assert.assertTrue(ServerCapabilityCache.atLeast("v2.6.0", REQUIRED));
+        Assert.assertTrue(ServerCapabilityCache.atLeast("2.6.3-rc1", REQUIRED));
+        Assert.assertTrue(ServerCapabilityCache.atLeast("v3.0", REQUIRED));
+        Assert.assertFalse(ServerCapabilityCache.atLeast("v2.5.14", REQUIRED));
+        Assert.assertFalse(ServerCapabilityCache.atLeast("unknown", REQUIRED));
+        Assert.assertFalse(ServerCapabilityCache.atLeast(null, REQUIRED));
+    }
+
+    @Test
+    public void serverVersionStringsSelectPartialUpsert() {
+        // getServerVersion 的实际返回格式
+        Assert.assertTrue(ServerCapabilityCache.supportsPartialUpsert("v2.6.0"));
+        Assert.assertTrue(ServerCapabilityCache.supportsPartialUpsert("v2.6.1-rc1-dev"));
+        Assert.assertFalse(ServerCapabilityCache.supportsPartialUpsert("v2.5.14"));
+        Assert.assertFalse(ServerCapabilityCache.supportsPartialUpsert(""));
+    }
+
+    @Test
+    public void minVersionAndClientSidePathAreConfigurable() {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setPartialUpsertMinVersion("v2.6.2");
+        ServerCapabilityCache.configure(properties);
+        Assert.assertFalse(ServerCapabilityCache.supportsPartialUpsert("v2.6.1"));
+        Assert.assertTrue(ServerCapabilityCache.supportsPartialUpsert("v2.6.2"));
+
+        properties.setServerPartialUpsert(false);
+        ServerCapabilityCache.configure(properties);
+        Assert.assertFalse(ServerCapabilityCache.supportsPartialUpsert("v2.6.2"));
+    }
+
+    @Test(expected = MilvusPlusException.class)
+    public void rejectsUnparsableMinVersion() {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setPartialUpsertMinVersion("latest");
+        ServerCapabilityCache.configure(properties);
+    }
+}
@@ -0,0 +1,55 @@
+package org.dromara.milvus.plus.converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DefaultConversionExecutorTest {
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void smallBatchStaysOnCallerThread() {
+        DefaultConversionExecutor executor = new DefaultConversionExecutor(2, 512, 8);
+        Thread caller = Thread.currentThread();
+        List<Boolean> onCaller = executor.map(range(10), i -> Thread.currentThread() == caller);
+        Assert.assertFalse(onCaller.contains(false));
+        Assert.assertEquals(1, executor.metrics().getInlineBatches());
+        executor.shutdown();
+    }
+
+    @Test
+    public void largeBatchPreservesOrder() {
+        DefaultConversionExecutor executor = new DefaultConversionExecutor(3, 100, 1);
+        List<Integer> results = executor.map(range(5000), i -> i * 2);
+        for (int i = 0; i < results.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(i * 2), results.get(i));
+        }
+        Assert.assertEquals(5000, executor.metrics().getRows());
+        Assert.assertTrue(executor.metrics().getSubmittedChunks() > 0);
+        executor.shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void propagatesMapperFailure() {
+        DefaultConversionExecutor executor = new DefaultConversionExecutor(2, 100, 8);
+        try {
+            executor.map(range(1000), i -> {
+                if (i == 900) {
+                    throw new IllegalStateException("bad row");
+                }
+                return i;
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import com.google.gson.JsonObject;
+import io.milvus.v2.common.DataType;
+import lombok.Data;
+import org.dromara.milvus.plus.annotation.MilvusCollection;
+import org.dromara.milvus.plus.annotation.MilvusField;
+import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.MilvusCache;
+import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class EntityBinderTest {
+
+    @Data
+    @MilvusCollection(name = "binder_test")
+    public static class Face {
+        @MilvusField(name = "person_id", dataType = DataType.Int64, isPrimaryKey = true)
+        private Long personId;
+        @MilvusField(dataType = DataType.Int32)
+        private int age;
+        @MilvusField(dataType = DataType.VarChar)
+        private String name = "default";
+        @MilvusField(dataType = DataType.Int64)
+        private Date createTime;
+        @MilvusField(dataType = DataType.JSON)
+        private JsonObject extra;
+        @MilvusField(dataType = DataType.FloatVector, dimension = 3)
+        private float[] vector;
+        @MilvusField(dataType = DataType.Array, elementType = DataType.Int64)
+        private List<Long> tags;
+    }
+
+    @Data
+    public static class FaceView {
+        private Long personId;
+        @MilvusField(name = "age")
+        private Integer years;
+        private String name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityBinder<Face> binder() {
+        MilvusConverter.convert(Face.class);
+        ConversionCache cache = MilvusCache.milvusCache.get(Face.class.getName());
+        return (EntityBinder<Face>) cache.getEntityBinder();
+    }
+
+    @Test
+    public void bindsSdkRowDirectly() {
+        EntityBinder<Face> binder = binder();
+        Assert.assertTrue(binder.isDirect());
+        JsonObject extra = new JsonObject();
+        extra.addProperty("k", 1);
+        Map<String, Object> row = new HashMap<>();
+        row.put("person_id", 7L);
+        row.put("age", 30);
+        row.put("name", null);
+        row.put("createTime", 1700000000000L);
+        row.put("extra", extra);
+        row.put("vector", Arrays.asList(0.1f, 0.2f, 0.3f));
+        row.put("tags", Arrays.asList(1L, 2L));
+        row.put("unmapped", "ignored");
+
+        Face face = binder.bind(row);
+        Assert.assertEquals(Long.valueOf(7L), face.getPersonId());
+        Assert.assertEquals(30, face.getAge());
+        Assert.assertNull(face.getName());
+        Assert.assertEquals(new Date(1700000000000L), face.getCreateTime());
+        Assert.assertSame(extra, face.getExtra());
+        Assert.assertArrayEquals(new float[]{0.1f, 0.2f, 0.3f}, face.getVector(), 0f);
+        Assert.assertEquals(Arrays.asList(1L, 2L), face.getTags());
+    }
+
+    @Test
+    public void coercesNumericsAndElements() {
+        EntityBinder<Face> binder = binder();
+        Map<String, Object> row = new HashMap<>();
+        row.put("person_id", 7);
+        row.put("age", 30L);
+        Face face = binder.bind(row);
+        Assert.assertEquals(Long.valueOf(7L), face.getPersonId());
+        Assert.assertEquals(30, face.getAge());
+        Assert.assertEquals("default", face.getName());
+
+        // 数组元素按声明的元素类型转换
+        row.put("tags", Collections.singletonList("3"));
+        Assert.assertEquals(Collections.singletonList(3L), binder.bind(row).getTags());
+    }
+
+    @Test
+    public void projectionDerivesOutputFieldsAndBinds() {
+        binder();
+        ConversionCache cache = MilvusCache.milvusCache.get(Face.class.getName());
+        Projection<FaceView> projection = Projection.of(FaceView.class, cache.getPropertyCache());
+        Assert.assertEquals(Arrays.asList("person_id", "age", "name"), projection.getOutputFields());
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("person_id", 7L);
+        row.put("age", 30);
+        row.put("name", "x");
+        FaceView view = projection.getBinder().bind(row);
+        Assert.assertEquals(Long.valueOf(7L), view.getPersonId());
+        Assert.assertEquals(Integer.valueOf(30), view.getYears());
+        Assert.assertEquals("x", view.getName());
+    }
+}
@@ -0,0 +1,39 @@
+package org.dromara.milvus.plus.converter.binder;
+
+import com.google.gson.JsonObject;
+import org.dromara.milvus.plus.cache.MilvusCache;
+import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class EntityEncoderTest {
+
+    @SuppressWarnings("unchecked")
+    private EntityEncoder<EntityBinderTest.Face> encoder() {
+        MilvusConverter.convert(EntityBinderTest.Face.class);
+        return (EntityEncoder<EntityBinderTest.Face>) MilvusCache.milvusCache
+                .get(EntityBinderTest.Face.class.getName()).getEntityEncoder();
+    }
+
+    @Test
+    public void encodesMappedColumnsAndSkipsNulls() {
+        EntityBinderTest.Face face = new EntityBinderTest.Face();
+        face.setPersonId(7L);
+        face.setAge(30);
+        face.setName(null);
+        face.setVector(new float[]{0.5f, 1.5f});
+        face.setTags(Arrays.asList(1L, 2L));
+
+        JsonObject row = encoder().encodeInsert(face, "person_id");
+        Assert.assertEquals(7L, row.get("person_id").getAsLong());
+        Assert.assertEquals(30, row.get("age").getAsInt());
+        Assert.assertFalse(row.has("name"));
+        Assert.assertFalse(row.has("createTime"));
+        Assert.assertEquals(2, row.getAsJsonArray("vector").size());
+        Assert.assertEquals(1.5f, row.getAsJsonArray("vector").get(1).getAsFloat(), 0f);
+        Assert.assertEquals(2L, row.getAsJsonArray("tags").get(1).getAsLong());
+        Assert.assertEquals(row, encoder().encodeUpdate(face));
+    }
+}
@@ -0,0 +1,42 @@
+package org.dromara.milvus.plus.core;
+
+import io.milvus.v2.common.DataType;
+import lombok.Data;
+import org.dromara.milvus.plus.annotation.MilvusCollection;
+import org.dromara.milvus.plus.annotation.MilvusField;
+import org.dromara.milvus.plus.cache.ConversionCache;
+import org.dromara.milvus.plus.cache.MilvusCache;
+import org.dromara.milvus.plus.converter.MilvusConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FieldNameResolverTest {
+
+    @Data
+    @MilvusCollection(name = "resolver_test")
+    public static class Face {
+        @MilvusField(name = "person_id", dataType = DataType.Int64, isPrimaryKey = true)
+        private Long personId;
+    }
+
+    @Test
+    public void resolvesOnceAndFollowsEvict() {
+        MilvusConverter.convert(Face.class);
+        FieldFunction<Face, ?> fn = Face::getPersonId;
+        Assert.assertEquals("person_id", fn.getFieldName(fn));
+        Assert.assertEquals("person_id", fn.getFieldName(fn));
+
+        // 模拟热更新：驱逐后替换映射，缓存的解析结果必须失效
+        MilvusCache.evict(Face.class);
+        MilvusConverter.convert(Face.class);
+        ConversionCache cache = MilvusCache.milvusCache.get(Face.class.getName());
+        cache.getPropertyCache().methodToPropertyMap.put("getPersonId", "pid");
+        MilvusCache.evict(Face.class);
+        MilvusCache.milvusCache.put(Face.class.getName(), cache);
+        Assert.assertEquals("pid", fn.getFieldName(fn));
+
+        // 驱逐后未重建：按注解解析
+        MilvusCache.evict(Face.class);
+        Assert.assertEquals("person_id", fn.getFieldName(fn));
+    }
+}
@@ -0,0 +1,61 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import org.dromara.milvus.plus.model.MilvusProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.*;
+
+public class AsyncExecutorsTest {
+
+    @After
+    public void reset() {
+        AsyncExecutors.configure(new MilvusProperties());
+    }
+
+    private static String blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "done";
+    }
+
+    @Test
+    public void completesOnExecutorThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Boolean> future = AsyncExecutors.supply(() -> Thread.currentThread() != caller, -1);
+        Assert.assertTrue(future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void timeoutFailsFutureAndInterruptsRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = AsyncExecutors.supply(() -> blockUntilInterrupted(started, interrupted), 50);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelInterruptsRequest() throws Exception {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setAsyncTimeoutMillis(10_000);
+        AsyncExecutors.configure(properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = AsyncExecutors.supply(() -> blockUntilInterrupted(started, interrupted), -1);
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(future.cancel(true));
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(future.isCancelled());
+    }
+}
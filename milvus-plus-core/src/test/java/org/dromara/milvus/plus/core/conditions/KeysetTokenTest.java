@@ -0,0 +1,36 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import org.dromara.milvus.plus.exception.MilvusPlusException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class KeysetTokenTest {
+
+    @Test
+    public void roundTripsLongAndStringKeys() {
+        String fp = KeysetToken.fingerprint("face", "age > 10", Collections.singletonList("p1"));
+        Assert.assertEquals(42L, KeysetToken.decode(KeysetToken.encode(fp, 42L), fp));
+        Assert.assertEquals("a|b", KeysetToken.decode(KeysetToken.encode(fp, "a|b"), fp));
+    }
+
+    @Test(expected = MilvusPlusException.class)
+    public void rejectsTokenFromOtherConditions() {
+        String fp = KeysetToken.fingerprint("face", "age > 10", null);
+        String other = KeysetToken.fingerprint("face", "age > 11", null);
+        KeysetToken.decode(KeysetToken.encode(fp, 1L), other);
+    }
+
+    @Test
+    public void fingerprintAndCountKeyIgnorePartitionOrder() {
+        Assert.assertEquals(64, KeysetToken.fingerprint("face", "age > 10", null).length());
+        Assert.assertEquals(KeysetToken.fingerprint("face", "age > 10", Arrays.asList("p1", "p2")),
+                KeysetToken.fingerprint("face", "age > 10", Arrays.asList("p2", "p1")));
+        Assert.assertEquals(KeysetToken.countKey("age > 10", Arrays.asList("p1", "p2")),
+                KeysetToken.countKey("age > 10", Arrays.asList("p2", "p1")));
+        Assert.assertNotEquals(KeysetToken.countKey("age > 10", null), KeysetToken.countKey("age > 1", null));
+        Assert.assertTrue(KeysetToken.countKey("age > 10", null).startsWith("age > 10"));
+    }
+}
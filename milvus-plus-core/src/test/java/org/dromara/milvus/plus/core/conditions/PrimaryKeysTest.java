@@ -0,0 +1,31 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import com.google.gson.JsonPrimitive;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class PrimaryKeysTest {
+
+    @Test
+    public void distinctKeepsFirstOccurrenceOrder() {
+        List<Object> ids = PrimaryKeys.distinct(Arrays.asList(3L, 1, 3, null, "a", 2L, 1L, "a"));
+        Assert.assertEquals(Arrays.asList(3L, 1, "a", 2L), ids);
+    }
+
+    @Test
+    public void jsonAndJavaKeysMatch() {
+        Assert.assertEquals(PrimaryKeys.key(42L), PrimaryKeys.key(new JsonPrimitive(42)));
+        Assert.assertEquals(PrimaryKeys.key("42"), PrimaryKeys.key(new JsonPrimitive("42")));
+        Assert.assertNotEquals(PrimaryKeys.key(42L), PrimaryKeys.key("42"));
+    }
+
+    @Test
+    public void chunksCoverAllIds() {
+        List<List<Integer>> chunks = PrimaryKeys.chunks(Arrays.asList(1, 2, 3, 4, 5), 2);
+        Assert.assertEquals(3, chunks.size());
+        Assert.assertEquals(Arrays.asList(5), chunks.get(2));
+    }
+}
@@ -0,0 +1,184 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.request.data.FloatVec;
+import io.milvus.v2.service.vector.response.SearchResp;
+import org.dromara.milvus.plus.model.MilvusProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class SearchMicroBatcherTest {
+
+    /**
+     * 不连接服务端，每个查询向量返回一条以向量首个分量为 id 的结果，并记录每次请求的 nq
+     */
+    private static final class FakeClient extends MilvusClientV2 {
+        private final List<Integer> requests = Collections.synchronizedList(new ArrayList<>());
+        private final List<Boolean> interrupted = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean interruptSender;
+
+        private FakeClient() {
+            super(null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public SearchResp search(SearchReq request) {
+            requests.add(request.getData().size());
+            interrupted.add(Thread.currentThread().isInterrupted());
+            if (interruptSender && request.getData().size() > 1) {
+                // 模拟发送者在请求途中被中断，gRPC 取消请求
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("CANCELLED");
+            }
+            List<List<SearchResp.SearchResult>> groups = new ArrayList<>();
+            for (BaseVector vector : request.getData()) {
+                float first = ((List<Float>) vector.getData()).get(0);
+                groups.add(Collections.singletonList(SearchResp.SearchResult.builder()
+                        .id((long) first).score(first).build()));
+            }
+            SearchResp resp = SearchResp.builder().build();
+            resp.setSearchResults(groups);
+            return resp;
+        }
+    }
+
+    private static void configure(long windowMicros, int maxSize) {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setSearchBatchWindowMicros(windowMicros);
+        properties.setSearchBatchMaxSize(maxSize);
+        SearchMicroBatcher.configure(properties);
+    }
+
+    private static SearchReq request(float value, String filter) {
+        return SearchReq.builder()
+                .collectionName("c")
+                .filter(filter)
+                .limit(10)
+                .data(Collections.singletonList(new FloatVec(new float[]{value, 0f})))
+                .build();
+    }
+
+    /**
+     * 被中断的任务使用独立线程，避免中断状态留在公共线程池
+     */
+    private static final Executor OWN_THREAD = r -> new Thread(r).start();
+
+    @After
+    public void disable() {
+        configure(0L, SearchMicroBatcher.DEFAULT_MAX_BATCH);
+    }
+
+    @Test
+    public void disabledSearchesDirectly() {
+        FakeClient client = new FakeClient();
+        SearchResp resp = SearchMicroBatcher.search(client, request(3f, "a > 1"));
+        Assert.assertEquals(Collections.singletonList(1), client.requests);
+        Assert.assertEquals(3L, resp.getSearchResults().get(0).get(0).getId());
+    }
+
+    @Test
+    public void concurrentSearchesAreMergedAndSplitBack() throws Exception {
+        configure(TimeUnit.SECONDS.toMicros(10), 4);
+        FakeClient client = new FakeClient();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<SearchResp>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                float value = i + 1;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return SearchMicroBatcher.search(client, request(value, "a > 1"));
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 4; i++) {
+                SearchResp resp = futures.get(i).get(5, TimeUnit.SECONDS);
+                Assert.assertEquals(1, resp.getSearchResults().size());
+                Assert.assertEquals((long) (i + 1), resp.getSearchResults().get(0).get(0).getId());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(Collections.singletonList(4), client.requests);
+    }
+
+    @Test
+    public void differentParametersAreNotMerged() throws Exception {
+        configure(TimeUnit.MILLISECONDS.toMicros(20), 4);
+        FakeClient client = new FakeClient();
+        CompletableFuture<SearchResp> first = CompletableFuture.supplyAsync(() -> SearchMicroBatcher.search(client, request(1f, "a > 1")));
+        CompletableFuture<SearchResp> second = CompletableFuture.supplyAsync(() -> SearchMicroBatcher.search(client, request(2f, "a > 2")));
+        Assert.assertEquals(1L, first.get(5, TimeUnit.SECONDS).getSearchResults().get(0).get(0).getId());
+        Assert.assertEquals(2L, second.get(5, TimeUnit.SECONDS).getSearchResults().get(0).get(0).getId());
+        Assert.assertEquals(2, client.requests.size());
+    }
+
+    @Test
+    public void interruptedLeaderSendsBeforeRestoringInterrupt() throws Exception {
+        configure(TimeUnit.SECONDS.toMicros(10), 4);
+        FakeClient client = new FakeClient();
+        CompletableFuture<Boolean> interruptedAfter = new CompletableFuture<>();
+        Thread leader = new Thread(() -> {
+            SearchMicroBatcher.search(client, request(1f, "a > 1"));
+            interruptedAfter.complete(Thread.currentThread().isInterrupted());
+        });
+        leader.start();
+        Thread.sleep(50);
+        leader.interrupt();
+        // 中断后发起者继续等待窗口，由填满批次的调用方发送
+        List<CompletableFuture<SearchResp>> followers = new ArrayList<>();
+        for (int i = 2; i <= 4; i++) {
+            float value = i;
+            followers.add(CompletableFuture.supplyAsync(() -> SearchMicroBatcher.search(client, request(value, "a > 1")), OWN_THREAD));
+        }
+        for (CompletableFuture<SearchResp> follower : followers) {
+            follower.get(5, TimeUnit.SECONDS);
+        }
+        Assert.assertTrue(interruptedAfter.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Collections.singletonList(4), client.requests);
+
+        // 窗口到期由被中断的发起者发送：发送期间不带中断状态
+        configure(TimeUnit.MILLISECONDS.toMicros(200), 4);
+        CompletableFuture<Boolean> windowLeader = new CompletableFuture<>();
+        Thread sender = new Thread(() -> {
+            SearchMicroBatcher.search(client, request(5f, "a > 1"));
+            windowLeader.complete(Thread.currentThread().isInterrupted());
+        });
+        sender.start();
+        Thread.sleep(50);
+        sender.interrupt();
+        Assert.assertTrue(windowLeader.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList(false, false), client.interrupted);
+    }
+
+    @Test
+    public void interruptedSenderFailureIsNotShared() throws Exception {
+        configure(TimeUnit.SECONDS.toMicros(10), 2);
+        FakeClient client = new FakeClient();
+        client.interruptSender = true;
+        CompletableFuture<SearchResp> leader = CompletableFuture.supplyAsync(() -> SearchMicroBatcher.search(client, request(1f, "a > 1")), OWN_THREAD);
+        // 发起者进入 10 秒窗口等待
+        Thread.sleep(100);
+        // 填满批次的调用方负责发送并在途中被中断：其失败只抛给自己，发起者单独重新检索
+        CompletableFuture<SearchResp> filler = CompletableFuture.supplyAsync(() -> SearchMicroBatcher.search(client, request(2f, "a > 1")), OWN_THREAD);
+        try {
+            filler.get(5, TimeUnit.SECONDS);
+            Assert.fail("expected failure");
+        } catch (ExecutionException e) {
+            Assert.assertEquals("CANCELLED", e.getCause().getMessage());
+        }
+        Assert.assertEquals(1L, leader.get(5, TimeUnit.SECONDS).getSearchResults().get(0).get(0).getId());
+        Assert.assertEquals(Arrays.asList(2, 1), client.requests);
+    }
+}
@@ -0,0 +1,160 @@
+package org.dromara.milvus.plus.core.conditions;
+
+import io.milvus.v2.service.vector.request.QueryReq;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.FloatVec;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    /**
+     * 被中断的任务使用独立线程，避免中断状态留在公共线程池
+     */
+    private static final Executor OWN_THREAD = r -> new Thread(r).start();
+
+    @After
+    public void disable() {
+        SingleFlight.setEnabled(false);
+    }
+
+    private static SearchReq search(float value, List<String> outputFields, Map<String, Object> params) {
+        return SearchReq.builder()
+                .collectionName("c")
+                .filter("a > 1")
+                .limit(10)
+                .outputFields(outputFields)
+                .searchParams(params)
+                .data(Collections.singletonList(new FloatVec(new float[]{value, 1f})))
+                .build();
+    }
+
+    @Test
+    public void fingerprintIsCanonical() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("nprobe", 16);
+        params.put("radius", 0.5);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("radius", 0.5);
+        reordered.put("nprobe", 16);
+        String fingerprint = RequestFingerprint.of(search(1f, Arrays.asList("id", "name"), params));
+        Assert.assertEquals(fingerprint, RequestFingerprint.of(search(1f, Arrays.asList("name", "id"), reordered)));
+        Assert.assertNotEquals(fingerprint, RequestFingerprint.of(search(2f, Arrays.asList("id", "name"), params)));
+        Assert.assertEquals(RequestFingerprint.withoutData(search(1f, Arrays.asList("id", "name"), params)),
+                RequestFingerprint.withoutData(search(2f, Arrays.asList("id", "name"), params)));
+        Assert.assertNotEquals(RequestFingerprint.of(QueryReq.builder().collectionName("c").filter("a > 1").build()),
+                RequestFingerprint.of(QueryReq.builder().collectionName("c").filter("a > 2").build()));
+    }
+
+    @Test
+    public void disabledRunsEveryCall() {
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlight.execute(null, "k", null, calls::incrementAndGet);
+        SingleFlight.execute(null, "k", null, calls::incrementAndGet);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        SingleFlight.setEnabled(true);
+        long collapsedBefore = SingleFlight.getCollapsedCount();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<Integer> leader = pool.submit(() -> SingleFlight.execute(null, "k", "v", () -> {
+                entered.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            entered.await(5, TimeUnit.SECONDS);
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(pool.submit(() -> SingleFlight.execute(null, "k", "v", calls::incrementAndGet)));
+            }
+            while (SingleFlight.getCollapsedCount() - collapsedBefore < 3) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            Assert.assertEquals(1, (int) leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                Assert.assertEquals(1, (int) follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(0, SingleFlight.getInFlightCount());
+        // 请求结束后不再共享
+        Assert.assertEquals(2, (int) SingleFlight.execute(null, "k", "v", calls::incrementAndGet));
+    }
+
+    @Test
+    public void failureIsSharedWithFollowers() throws Exception {
+        SingleFlight.setEnabled(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long collapsedBefore = SingleFlight.getCollapsedCount();
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> SingleFlight.execute(null, "f", null, () -> {
+            entered.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        entered.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> SingleFlight.execute(null, "f", null, () -> "unused"));
+        while (SingleFlight.getCollapsedCount() == collapsedBefore) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        for (CompletableFuture<Object> future : Arrays.asList(leader, follower)) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                Assert.fail("expected failure");
+            } catch (ExecutionException e) {
+                Assert.assertEquals("boom", e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void interruptedLeaderFailureIsNotShared() throws Exception {
+        SingleFlight.setEnabled(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long collapsedBefore = SingleFlight.getCollapsedCount();
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> SingleFlight.execute(null, "i", null, () -> {
+            entered.countDown();
+            await(release);
+            // 模拟 gRPC 在调用方被中断（超时/取消）时取消请求
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("CANCELLED");
+        }), OWN_THREAD);
+        entered.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> SingleFlight.execute(null, "i", null, () -> "own"), OWN_THREAD);
+        while (SingleFlight.getCollapsedCount() == collapsedBefore) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        Assert.assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+        try {
+            leader.get(5, TimeUnit.SECONDS);
+            Assert.fail("expected failure");
+        } catch (ExecutionException e) {
+            Assert.assertEquals("CANCELLED", e.getCause().getMessage());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
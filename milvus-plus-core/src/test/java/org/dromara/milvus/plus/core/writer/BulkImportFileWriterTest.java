@@ -0,0 +1,117 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.milvus.v2.common.DataType;
+import lombok.Data;
+import org.dromara.milvus.plus.annotation.MilvusCollection;
+import org.dromara.milvus.plus.annotation.MilvusField;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BulkImportFileWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Data
+    @MilvusCollection(name = "bulk_file_test", enableDynamicField = true)
+    public static class Doc {
+        @MilvusField(name = "doc_id", dataType = DataType.Int64, isPrimaryKey = true)
+        private Long id;
+        @MilvusField(dataType = DataType.VarChar, maxLength = 256, enableAnalyzer = true)
+        private String text;
+        @MilvusField(dataType = DataType.FloatVector, dimension = 2)
+        private float[] vector;
+        private String tag;
+    }
+
+    @Test
+    public void writesRollingFilesWithDynamicFieldsAndNoFunctionOutputs() throws Exception {
+        BulkFileOptions options = BulkFileOptions.builder().maxFileBytes(512).writerThreads(2).build();
+        List<Path> files;
+        try (BulkImportFileWriter<Doc> writer = new BulkImportFileWriter<>(Doc.class, folder.getRoot().toPath(), options)) {
+            for (long i = 0; i < 40; i++) {
+                Doc doc = new Doc();
+                doc.setId(i);
+                doc.setText("text " + i);
+                doc.setVector(new float[]{i, -i});
+                doc.setTag("tag-" + i);
+                writer.add(doc);
+            }
+            files = writer.finish();
+        }
+        Assert.assertTrue("expected files to roll", files.size() > 2);
+        Set<Long> ids = new HashSet<>();
+        for (Path file : files) {
+            Assert.assertTrue(Files.size(file) <= 512);
+            JsonArray rows = JsonParser.parseString(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).getAsJsonArray();
+            Assert.assertTrue(rows.size() > 0);
+            for (int i = 0; i < rows.size(); i++) {
+                JsonObject row = rows.get(i).getAsJsonObject();
+                long id = row.get("doc_id").getAsLong();
+                ids.add(id);
+                Assert.assertFalse(row.has("text_sparse"));
+                Assert.assertFalse(row.has("tag"));
+                Assert.assertEquals("tag-" + id, row.getAsJsonObject("$meta").get("tag").getAsString());
+                Assert.assertEquals(2, row.getAsJsonArray("vector").size());
+            }
+        }
+        Assert.assertEquals(40, ids.size());
+    }
+
+    @Test
+    public void rowsAddedConcurrentlyWithFinishAreWrittenOrRejected() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            BulkFileOptions options = BulkFileOptions.builder().writerThreads(2).queueCapacity(4).filePrefix("race-" + round).build();
+            BulkImportFileWriter<Doc> writer = new BulkImportFileWriter<>(Doc.class, folder.getRoot().toPath(), options);
+            AtomicLong added = new AtomicLong();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long base = t * 1000L;
+                Thread producer = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (long i = 0; i < 200; i++) {
+                            Doc doc = new Doc();
+                            doc.setId(base + i);
+                            doc.setVector(new float[]{1f, 2f});
+                            writer.add(doc);
+                            added.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        // 结束后 add 抛出 BULK_WRITER_CLOSED
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            start.countDown();
+            List<Path> files = writer.finish();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            long written = 0;
+            for (Path file : files) {
+                written += JsonParser.parseString(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).getAsJsonArray().size();
+            }
+            // 已接受的行必须全部写入文件
+            Assert.assertEquals(added.get(), written);
+            Assert.assertEquals(added.get(), writer.rowCount());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonObject;
+import io.milvus.v2.service.vector.response.InsertResp;
+import org.dromara.milvus.plus.core.conditions.LambdaInsertWrapper;
+import org.dromara.milvus.plus.model.vo.MilvusResp;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class MilvusBulkWriterTest {
+
+    /**
+     * 以行中的 id 作为主键返回，记录每次请求的行数
+     */
+    private static final class FakeInsertWrapper extends LambdaInsertWrapper<Long> {
+        private final List<Integer> requests;
+
+        private FakeInsertWrapper(List<Integer> requests) {
+            this.requests = requests;
+        }
+
+        @Override
+        public JsonObject encode(Long entity) {
+            JsonObject row = new JsonObject();
+            row.addProperty("id", entity);
+            return row;
+        }
+
+        @Override
+        public MilvusResp<InsertResp> insertRows(List<JsonObject> rows) {
+            synchronized (requests) {
+                requests.add(rows.size());
+            }
+            List<Object> ids = new ArrayList<>();
+            for (JsonObject row : rows) {
+                ids.add(row.get("id").getAsLong());
+            }
+            InsertResp insertResp = InsertResp.builder().build();
+            insertResp.setInsertCnt(rows.size());
+            insertResp.setPrimaryKeys(ids);
+            MilvusResp<InsertResp> resp = new MilvusResp<>();
+            resp.setData(insertResp);
+            resp.setSuccess(true);
+            return resp;
+        }
+    }
+
+    @Test
+    public void defaultsAreApplied() {
+        BulkWriterOptions options = new BulkWriterOptions();
+        Assert.assertEquals(1000, options.getMaxRows());
+        Assert.assertEquals(4, options.getMaxInFlight());
+    }
+
+    @Test
+    public void batchesRowsAndCompletesFuturesWithIds() throws Exception {
+        List<Integer> requests = Collections.synchronizedList(new ArrayList<>());
+        BulkWriterOptions options = BulkWriterOptions.builder().maxRows(10).lingerMillis(10_000L).maxInFlight(2).build();
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        try (MilvusBulkWriter<Long> writer = new MilvusBulkWriter<>(() -> new FakeInsertWrapper(requests), options)) {
+            for (long i = 0; i < 25; i++) {
+                futures.add(writer.add(i));
+            }
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            Assert.assertEquals((long) i, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(3, requests.size());
+        Assert.assertEquals(25, requests.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void lingerFlushesPartialBatch() throws Exception {
+        List<Integer> requests = Collections.synchronizedList(new ArrayList<>());
+        BulkWriterOptions options = BulkWriterOptions.builder().maxRows(100).lingerMillis(20L).build();
+        try (MilvusBulkWriter<Long> writer = new MilvusBulkWriter<>(() -> new FakeInsertWrapper(requests), options)) {
+            Assert.assertEquals(7L, writer.add(7L).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void rowsAddedConcurrentlyWithCloseAreWrittenOrRejected() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            List<Integer> requests = Collections.synchronizedList(new ArrayList<>());
+            BulkWriterOptions options = BulkWriterOptions.builder().maxRows(3).lingerMillis(10_000L).maxInFlight(2).build();
+            MilvusBulkWriter<Long> writer = new MilvusBulkWriter<>(() -> new FakeInsertWrapper(requests), options);
+            List<CompletableFuture<Object>> futures = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long base = t * 1000L;
+                Thread producer = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (long i = 0; i < 200; i++) {
+                            futures.add(writer.add(base + i));
+                        }
+                    } catch (Exception e) {
+                        // 关闭后 add 抛出 BULK_WRITER_CLOSED
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            start.countDown();
+            writer.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            // 已接受的行在关闭时必须全部完成，不能悬挂
+            for (CompletableFuture<Object> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    Assert.fail("accepted row failed: " + e.getCause());
+                }
+            }
+            Assert.assertEquals(futures.size(), requests.stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.milvus.v2.common.DataType;
+import io.milvus.v2.service.collection.request.AddFieldReq;
+import org.dromara.milvus.plus.converter.RowSizeEstimator;
+import org.dromara.milvus.plus.model.MilvusEntity;
+import org.dromara.milvus.plus.model.MilvusProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RequestSplitterTest {
+
+    @After
+    public void reset() {
+        RequestSplitter.configure(new MilvusProperties());
+    }
+
+    private static RowSizeEstimator estimator() {
+        MilvusEntity entity = new MilvusEntity();
+        entity.setMilvusFields(Arrays.asList(
+                AddFieldReq.builder().fieldName("id").dataType(DataType.Int64).build(),
+                AddFieldReq.builder().fieldName("vector").dataType(DataType.FloatVector).dimension(256).build()));
+        return RowSizeEstimator.of(entity);
+    }
+
+    private static List<JsonObject> rows(int count) {
+        List<JsonObject> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JsonObject row = new JsonObject();
+            row.addProperty("id", i);
+            row.add("vector", new JsonArray());
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    public void estimatesFixedWidthColumnsFromSchema() {
+        // 8 (Int64) + 256 * 4 (FloatVector)，不读取向量取值
+        Assert.assertEquals(8 + 1024, estimator().estimate(rows(1).get(0)));
+    }
+
+    @Test
+    public void splitsUnderBudgetAndPreservesOrder() {
+        List<JsonObject> rows = rows(10);
+        List<List<JsonObject>> chunks = RequestSplitter.split(rows, estimator(), 3 * 1032);
+        Assert.assertEquals(4, chunks.size());
+        List<Integer> sizes = RequestSplitter.execute(chunks, List::size);
+        Assert.assertEquals(Arrays.asList(3, 3, 3, 1), sizes);
+        List<Long> firstIds = RequestSplitter.execute(chunks, c -> c.get(0).get("id").getAsLong());
+        Assert.assertEquals(Arrays.asList(0L, 3L, 6L, 9L), firstIds);
+    }
+
+    @Test
+    public void keepsSingleChunkWhenWithinBudget() {
+        List<JsonObject> rows = rows(10);
+        List<List<JsonObject>> chunks = RequestSplitter.split(rows, estimator(), Long.MAX_VALUE);
+        Assert.assertEquals(1, chunks.size());
+        Assert.assertSame(rows, chunks.get(0));
+    }
+
+    @Test
+    public void emptyChunksYieldEmptyResult() {
+        Assert.assertTrue(RequestSplitter.execute(Collections.<List<JsonObject>>emptyList(), List::size).isEmpty());
+    }
+
+    @Test
+    public void nestedWritesOnPoolThreadRunInline() throws Exception {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setWriteParallelism(2);
+        RequestSplitter.configure(properties);
+        List<Integer> outer = Arrays.asList(1, 2, 3);
+        // 线程池仅 1 个线程：嵌套调用若再提交到线程池会互相等待
+        List<List<Integer>> results = RequestSplitter.submit(() -> RequestSplitter.execute(outer,
+                        o -> RequestSplitter.execute(Arrays.asList(o, o * 10), i -> i + 1)))
+                .get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(2, 11), Arrays.asList(3, 21), Arrays.asList(4, 31)), results);
+    }
+
+    @Test
+    public void readsDoNotQueueBehindWrites() throws Exception {
+        MilvusProperties properties = new MilvusProperties();
+        properties.setWriteParallelism(2);
+        RequestSplitter.configure(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        // 占满写入线程池（1 个线程）
+        CompletableFuture<Boolean> write = RequestSplitter.submit(() -> {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        try {
+            CompletableFuture<List<Integer>> reads = CompletableFuture.supplyAsync(
+                    () -> RequestSplitter.executeReads(Arrays.asList(1, 2, 3, 4), i -> i * 2));
+            Assert.assertEquals(Arrays.asList(2, 4, 6, 8), reads.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+        Assert.assertTrue(write.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,167 @@
+package org.dromara.milvus.plus.core.writer;
+
+import com.google.gson.JsonObject;
+import io.milvus.v2.service.vector.response.DeleteResp;
+import io.milvus.v2.service.vector.response.UpsertResp;
+import org.dromara.milvus.plus.cache.CollectionToPrimaryCache;
+import org.dromara.milvus.plus.core.conditions.LambdaDeleteWrapper;
+import org.dromara.milvus.plus.core.conditions.LambdaUpdateWrapper;
+import org.dromara.milvus.plus.model.vo.MilvusResp;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class WriteCoalescerTest {
+
+    private static final String COLLECTION = "coalesce_test";
+
+    @BeforeClass
+    public static void registerPrimaryKey() {
+        CollectionToPrimaryCache.collectionToPrimary.put(COLLECTION, "id");
+    }
+
+    /**
+     * 实体为 long[]{id, value}；更新请求按 "U:" 记录行，value 为 0 时不写该字段（模拟部分更新）
+     */
+    private static class FakeUpdateWrapper extends LambdaUpdateWrapper<long[]> {
+        private final List<String> requests;
+
+        private FakeUpdateWrapper(List<String> requests) {
+            this.requests = requests;
+            setCollectionName(COLLECTION);
+        }
+
+        @Override
+        public JsonObject encode(long[] entity) {
+            JsonObject row = new JsonObject();
+            row.addProperty("id", entity[0]);
+            if (entity[1] != 0) {
+                row.addProperty("v", entity[1]);
+            }
+            return row;
+        }
+
+        @Override
+        public MilvusResp<UpsertResp> updateRows(List<JsonObject> rows) {
+            requests.add("U:" + rows);
+            UpsertResp upsertResp = UpsertResp.builder().build();
+            upsertResp.setUpsertCnt(rows.size());
+            MilvusResp<UpsertResp> resp = new MilvusResp<>();
+            resp.setData(upsertResp);
+            resp.setSuccess(true);
+            return resp;
+        }
+    }
+
+    private static final class FakeDeleteWrapper extends LambdaDeleteWrapper<long[]> {
+        private final List<String> requests;
+        private final boolean fail;
+
+        private FakeDeleteWrapper(List<String> requests, boolean fail) {
+            this.requests = requests;
+            this.fail = fail;
+        }
+
+        @Override
+        public MilvusResp<DeleteResp> remove() {
+            if (fail) {
+                throw new IllegalStateException("delete failed");
+            }
+            requests.add("D:" + getIds());
+            MilvusResp<DeleteResp> resp = new MilvusResp<>();
+            resp.setSuccess(true);
+            return resp;
+        }
+    }
+
+    private static WriteCoalescer<long[]> coalescer(List<String> requests, boolean partial, boolean failDelete) {
+        CoalescerOptions options = CoalescerOptions.builder().windowMillis(10_000L).partial(partial).build();
+        return new WriteCoalescer<>(() -> new FakeUpdateWrapper(requests),
+                () -> new FakeDeleteWrapper(requests, failDelete), options);
+    }
+
+    @Test
+    public void lastWriteWinsAndDeletesGoFirst() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        WriteCoalescer<long[]> coalescer = coalescer(requests, false, false);
+        futures.add(coalescer.upsert(new long[]{1, 10}));
+        futures.add(coalescer.upsert(new long[]{2, 20}));
+        futures.add(coalescer.upsert(new long[]{1, 11}));
+        futures.add(coalescer.delete(2L));
+        futures.add(coalescer.delete(3L));
+        futures.add(coalescer.upsert(new long[]{3, 30}));
+        coalescer.close();
+        for (CompletableFuture<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        // 3 先删后写：不删除时整行更新会回查旧行补齐缺失字段
+        Assert.assertEquals("[D:[2, 3], U:[{\"id\":1,\"v\":11}, {\"id\":3,\"v\":30}]]", requests.toString());
+        Assert.assertEquals(6, coalescer.getSubmittedCount());
+        Assert.assertEquals(3, coalescer.getCoalescedCount());
+        Assert.assertEquals(4, coalescer.getFlushedRows());
+    }
+
+    @Test
+    public void laterWriteKeepsFieldsItDoesNotTouch() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        CoalescerOptions options = CoalescerOptions.builder().windowMillis(10_000L).build();
+        WriteCoalescer<long[]> coalescer = new WriteCoalescer<>(() -> new FakeUpdateWrapper(requests) {
+            @Override
+            public JsonObject encode(long[] entity) {
+                // 实体为 long[]{id, a, b}，0 表示该字段为 null
+                JsonObject row = new JsonObject();
+                row.addProperty("id", entity[0]);
+                if (entity[1] != 0) {
+                    row.addProperty("a", entity[1]);
+                }
+                if (entity[2] != 0) {
+                    row.addProperty("b", entity[2]);
+                }
+                return row;
+            }
+        }, () -> new FakeDeleteWrapper(requests, false), options);
+        coalescer.upsert(new long[]{1, 1, 2});
+        coalescer.upsert(new long[]{1, 3, 0});
+        coalescer.close();
+        Assert.assertEquals("[U:[{\"id\":1,\"a\":3,\"b\":2}]]", requests.toString());
+    }
+
+    @Test
+    public void partialMergesFieldsAndDeletesBeforeRewrite() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        WriteCoalescer<long[]> coalescer = coalescer(requests, true, false);
+        coalescer.upsert(new long[]{1, 10});
+        coalescer.upsert(new long[]{1, 0});
+        coalescer.delete(2L);
+        coalescer.upsert(new long[]{2, 0});
+        coalescer.flush().get(5, TimeUnit.SECONDS);
+        Assert.assertEquals("[D:[2], U:[{\"id\":1,\"v\":10}, {\"id\":2}]]", requests.toString());
+        coalescer.close();
+    }
+
+    @Test
+    public void failedFlushCompletesFuturesExceptionally() throws Exception {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        WriteCoalescer<long[]> coalescer = coalescer(requests, false, true);
+        CompletableFuture<Void> upsert = coalescer.upsert(new long[]{1, 10});
+        CompletableFuture<Void> delete = coalescer.delete(2L);
+        coalescer.close();
+        for (CompletableFuture<Void> future : new CompletableFuture[]{upsert, delete}) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                Assert.fail("expected failure");
+            } catch (ExecutionException e) {
+                Assert.assertEquals("delete failed", e.getCause().getMessage());
+            }
+        }
+        Assert.assertTrue(requests.isEmpty());
+    }
+}
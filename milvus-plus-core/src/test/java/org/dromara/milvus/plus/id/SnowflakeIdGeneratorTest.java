@@ -0,0 +1,74 @@
+package org.dromara.milvus.plus.id;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SnowflakeIdGeneratorTest {
+
+    @Test
+    public void idsAreUniqueAcrossThreadsAndBatches() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            boolean batch = t % 2 == 0;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    if (batch) {
+                        for (long id : generator.nextIds(20)) {
+                            Assert.assertTrue(ids.add(id));
+                        }
+                    } else {
+                        Assert.assertTrue(ids.add(generator.nextId()));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        Assert.assertEquals(4 * 500 * 20 + 4 * 500, ids.size());
+        for (long id : ids) {
+            Assert.assertEquals(7, (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID);
+        }
+    }
+
+    @Test
+    public void clockMovingBackwardsKeepsIdsIncreasing() {
+        AtomicLong now = new AtomicLong(1_700_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, now::get, SnowflakeIdGenerator.MAX_LEAD_MILLIS);
+        long previous = generator.nextId();
+        now.addAndGet(-2_000L);
+        // 同一毫秒内超过 4096 个也不自旋，借用后续毫秒
+        for (long id : generator.nextIds(10_000)) {
+            Assert.assertTrue(id > previous);
+            previous = id;
+        }
+        now.addAndGet(60_000L);
+        long afterCatchUp = generator.nextId();
+        Assert.assertTrue(afterCatchUp > previous);
+        Assert.assertEquals(now.get() - SnowflakeIdGenerator.EPOCH, afterCatchUp >>> 22);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfRangeWorkerId() {
+        SnowflakeIdGenerator.resolveWorkerId(SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+    }
+}
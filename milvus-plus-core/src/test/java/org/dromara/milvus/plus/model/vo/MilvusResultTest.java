@@ -0,0 +1,81 @@
+package org.dromara.milvus.plus.model.vo;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MilvusResultTest {
+
+    @Test
+    public void lazyEntityDecodesOnceAcrossThreads() throws Exception {
+        AtomicInteger decodes = new AtomicInteger();
+        MilvusResult<String> result = new MilvusResult<>();
+        result.setId(1L);
+        result.setEntityLoader(() -> {
+            decodes.incrementAndGet();
+            return "row-1";
+        });
+        Assert.assertFalse(result.entityLoaded());
+        Assert.assertEquals(1L, result.getId());
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return result.getEntity();
+            }));
+        }
+        start.countDown();
+        for (Future<String> future : futures) {
+            Assert.assertEquals("row-1", future.get(10, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+        Assert.assertEquals(1, decodes.get());
+        Assert.assertTrue(result.entityLoaded());
+    }
+
+    @Test
+    public void setEntityDropsPendingLoader() {
+        MilvusResult<String> result = new MilvusResult<>();
+        result.setEntityLoader(() -> {
+            throw new AssertionError("loader must not run");
+        });
+        result.setEntity("direct");
+        Assert.assertEquals("direct", result.getEntity());
+        Assert.assertTrue(result.entityLoaded());
+    }
+
+    @Test
+    public void toStringEqualsAndGsonDecodeLazyEntity() {
+        MilvusResult<String> eager = new MilvusResult<>();
+        eager.setId(1L);
+        eager.setEntity("row-1");
+        MilvusResult<String> lazy = new MilvusResult<>();
+        lazy.setId(1L);
+        lazy.setEntityLoader(() -> "row-1");
+        Assert.assertEquals(eager, lazy);
+        Assert.assertEquals(eager.hashCode(), lazy.hashCode());
+
+        MilvusResult<String> printed = new MilvusResult<>();
+        printed.setEntityLoader(() -> "row-2");
+        Assert.assertTrue(printed.toString().contains("entity=row-2"));
+
+        MilvusResult<String> serialized = new MilvusResult<>();
+        serialized.setEntityLoader(() -> "row-3");
+        JsonObject json = new Gson().toJsonTree(serialized).getAsJsonObject();
+        Assert.assertEquals("row-3", json.get("entity").getAsString());
+        Assert.assertFalse(json.has("entityLoader"));
+    }
+}
@@ -1,6 +1,12 @@
 package org.dromara.solon.entity;
 
 import lombok.Data;
+import org.dromara.milvus.plus.cache.CaffeineResultCache;
+import org.dromara.milvus.plus.cache.ResultCaches;
+import org.dromara.milvus.plus.cache.ServerCapabilityCache;
+import org.dromara.milvus.plus.converter.DefaultConversionExecutor;
+import org.dromara.milvus.plus.core.conditions.SearchMicroBatcher;
+import org.dromara.milvus.plus.core.writer.RequestSplitter;
 import org.dromara.milvus.plus.model.SchemaMode;
 import org.noear.solon.annotation.Configuration;
 import org.noear.solon.annotation.Inject;
@@ -26,4 +32,20 @@ public class MilvusPropertiesConfiguration {
     private boolean banner = true;
     private SchemaMode schemaMode = SchemaMode.IGNORE;
     private boolean enableRecreate = false;
-}
\ No newline at end of file
+    private int conversionThreads = DefaultConversionExecutor.DEFAULT_THREADS;
+    private int conversionThreshold = DefaultConversionExecutor.DEFAULT_THRESHOLD;
+    private int conversionQueueCapacity = DefaultConversionExecutor.DEFAULT_QUEUE_CAPACITY;
+    private long writeRequestBytes = RequestSplitter.DEFAULT_MAX_REQUEST_BYTES;
+    private int writeParallelism = RequestSplitter.DEFAULT_PARALLELISM;
+    private int idWorkerId = -1;
+    private long searchBatchWindowMicros = 0L;
+    private int searchBatchMaxSize = SearchMicroBatcher.DEFAULT_MAX_BATCH;
+    private boolean singleFlight = false;
+    private boolean resultCacheEnabled = false;
+    private long resultCacheMaxEntries = CaffeineResultCache.DEFAULT_MAX_ENTRIES;
+    private long resultCacheTtlMillis = ResultCaches.DEFAULT_TTL_MILLIS;
+    private int asyncThreads = 0;
+    private long asyncTimeoutMillis = 0L;
+    private boolean serverPartialUpsert = true;
+    private String partialUpsertMinVersion = ServerCapabilityCache.DEFAULT_PARTIAL_UPSERT_VERSION;
+}